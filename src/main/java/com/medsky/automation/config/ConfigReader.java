@@ -1,9 +1,14 @@
 package com.medsky.automation.config;
 
+import com.medsky.automation.enums.SessionResetPolicy;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 public class ConfigReader {
@@ -116,6 +121,16 @@ public class ConfigReader {
         }
     }
 
+    public static List<String> getListProperty(String key, String defaultValue){
+        List<String> values = new ArrayList<>();
+        for(String value : properties.getProperty(key, defaultValue).split(",")) {
+            if(!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
     //Methods for common properties
     public static String getBrowserName(){
         String browser = System.getProperty("browser");
@@ -170,4 +185,344 @@ public class ConfigReader {
 
         return url;
     }
+
+    //Driver pool settings
+    public static boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driverPool.enabled", false);
+    }
+
+    public static int getDriverPoolMaxSize() {
+        return getIntProperty("driverPool.maxSize", 3);
+    }
+
+    public static int getDriverPoolMaxUses() {
+        return getIntProperty("driverPool.maxUses", 20);
+    }
+
+    public static int getDriverPoolMaxIdleSeconds() {
+        return getIntProperty("driverPool.maxIdleSeconds", 120);
+    }
+
+    public static SessionResetPolicy getDriverPoolResetPolicy() {
+        return SessionResetPolicy.fromValue(getProperty("driverPool.resetPolicy", "full"));
+    }
+
+    public static boolean isDriverPoolStatsEnabled() {
+        return getBooleanProperty("driverPool.logStats", true);
+    }
+
+    //Driver binary resolution settings
+    public static String getBrowserVersion() {
+        String version = getProperty("browserVersion");
+        return version == null || version.trim().isEmpty() ? null : version.trim();
+    }
+
+    public static String getDriverCacheFile() {
+        return getProperty("driverCache.file",
+                System.getProperty("user.home") + "/.cache/medsky-automation/driver-resolution.properties");
+    }
+
+    public static int getDriverCacheTtlHours() {
+        return getIntProperty("driverCache.ttlHours", 24);
+    }
+
+    public static boolean isDriverCacheOffline() {
+        return getBooleanProperty("driverCache.offline", false);
+    }
+
+    //Suite warm-up settings
+    public static boolean isWarmUpEnabled() {
+        return getBooleanProperty("warmUp.enabled", false);
+    }
+
+    public static int getWarmUpSessions() {
+        return getIntProperty("warmUp.sessions", 0);
+    }
+
+    public static int getWarmUpTimeoutSeconds() {
+        return getIntProperty("warmUp.timeoutSeconds", 120);
+    }
+
+    //Grid admission settings
+    public static boolean isGridAdmissionEnabled() {
+        return getBooleanProperty("gridAdmission.enabled", false);
+    }
+
+    public static int getGridAdmissionPollSeconds() {
+        return getIntProperty("gridAdmission.pollSeconds", 10);
+    }
+
+    public static int getGridAdmissionTimeoutSeconds() {
+        return getIntProperty("gridAdmission.timeoutSeconds", 300);
+    }
+
+    public static int getGridAdmissionMaxRetries() {
+        return getIntProperty("gridAdmission.maxRetries", 3);
+    }
+
+    public static long getGridAdmissionBackoffMillis() {
+        return getLongProperty("gridAdmission.backoffMillis", 1000);
+    }
+
+    //Async teardown settings
+    public static boolean isAsyncTeardownEnabled() {
+        return getBooleanProperty("asyncTeardown.enabled", false);
+    }
+
+    public static int getAsyncTeardownThreads() {
+        return getIntProperty("asyncTeardown.threads", 2);
+    }
+
+    public static int getAsyncTeardownMaxOutstanding() {
+        return getIntProperty("asyncTeardown.maxOutstanding", 6);
+    }
+
+    public static int getAsyncTeardownDrainSeconds() {
+        return getIntProperty("asyncTeardown.drainSeconds", 60);
+    }
+
+    //Session watchdog settings
+    public static boolean isWatchdogEnabled() {
+        return getBooleanProperty("watchdog.enabled", false);
+    }
+
+    public static int getWatchdogCommandTimeoutSeconds() {
+        return getIntProperty("watchdog.commandTimeoutSeconds", 60);
+    }
+
+    public static int getWatchdogProbeTimeoutSeconds() {
+        return getIntProperty("watchdog.probeTimeoutSeconds", 5);
+    }
+
+    public static int getWatchdogGridTimeoutSeconds() {
+        return getIntProperty("watchdog.gridTimeoutSeconds", 300);
+    }
+
+    //Lean browsing settings
+    public static boolean isLeanModeEnabled() {
+        return getBooleanProperty("leanMode.enabled", false);
+    }
+
+    public static List<String> getLeanModeBlockedUrls() {
+        return getListProperty("leanMode.blockedUrls",
+                "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*,*.woff,*.woff2");
+    }
+
+    public static List<String> getLeanModeBlockedResourceTypes() {
+        return getListProperty("leanMode.blockedResourceTypes", "Image,Font,Media");
+    }
+
+    //Auth state cache settings
+    public static boolean isAuthCacheEnabled() {
+        return getBooleanProperty("authCache.enabled", false);
+    }
+
+    public static int getAuthCacheTtlSeconds() {
+        return getIntProperty("authCache.ttlSeconds", 900);
+    }
+
+    //Execution mode settings
+    public static String getExecutionMode(){
+        String executionMode = System.getProperty("executionMode");
+
+        if(executionMode == null || executionMode.trim().isEmpty()) {
+            executionMode = getProperty("executionMode", "platform");
+        }
+
+        return executionMode.toLowerCase().trim();
+    }
+
+    public static boolean isVirtualThreadMode() {
+        return "virtual".equals(getExecutionMode());
+    }
+
+    //Shared HTTP client settings
+    public static boolean isSharedHttpClientEnabled() {
+        return getBooleanProperty("httpClient.shared", false);
+    }
+
+    public static int getHttpClientMaxConnections() {
+        return Math.max(getIntProperty("httpClient.maxConnections", 16), 1);
+    }
+
+    public static int getHttpClientConnectTimeoutSeconds() {
+        return getIntProperty("httpClient.connectTimeoutSeconds", 10);
+    }
+
+    public static int getHttpClientReadTimeoutSeconds() {
+        return getIntProperty("httpClient.readTimeoutSeconds", 180);
+    }
+
+    //Locator cache settings
+    public static boolean isLocatorCacheEnabled() {
+        return getBooleanProperty("locatorCache.enabled", false);
+    }
+
+    //Observer wait settings
+    public static boolean isObserverWaitEnabled() {
+        return getBooleanProperty("observerWait.enabled", false);
+    }
+
+    //Adaptive wait settings
+    public static boolean isAdaptiveWaitEnabled() {
+        return getBooleanProperty("adaptiveWait.enabled", false);
+    }
+
+    public static double getAdaptiveWaitSafetyFactor() {
+        try{
+            return Double.parseDouble(getProperty("adaptiveWait.safetyFactor", "3.0").trim());
+        } catch (NumberFormatException exception){
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public static int getAdaptiveWaitMinSamples() {
+        return getIntProperty("adaptiveWait.minSamples", 5);
+    }
+
+    public static int getAdaptiveWaitMaxSamples() {
+        return Math.max(getIntProperty("adaptiveWait.maxSamples", 100), 1);
+    }
+
+    public static long getAdaptiveWaitMinTimeoutMillis() {
+        return getLongProperty("adaptiveWait.minTimeoutMillis", 1000);
+    }
+
+    public static String getAdaptiveWaitHistoryFile() {
+        return getProperty("adaptiveWait.historyFile",
+                System.getProperty("user.home") + "/.cache/medsky-automation/wait-history.properties");
+    }
+
+    //Network idle settings
+    public static boolean isNetworkIdleWaitEnabled() {
+        return getBooleanProperty("networkIdle.enabled", false);
+    }
+
+    public static boolean isNetworkIdlePreloadEnabled() {
+        return getBooleanProperty("networkIdle.preloadTracker", false);
+    }
+
+    public static int getNetworkIdleQuietMillis() {
+        return getIntProperty("networkIdle.quietMillis", 500);
+    }
+
+    public static long getNetworkIdleBaselineMillis() {
+        return getLongProperty("networkIdle.baselineMillis", 2000);
+    }
+
+    //Command latency settings
+    public static boolean isCommandLatencyEnabled() {
+        return getBooleanProperty("commandLatency.enabled", false);
+    }
+
+    //Composite action settings
+    public static boolean isCompositeActionsEnabled() {
+        return getBooleanProperty("compositeActions.enabled", false);
+    }
+
+    public static boolean isCompositeActionsStrict() {
+        return getBooleanProperty("compositeActions.strict", false);
+    }
+
+    //Page wiring settings
+    public static boolean isLazyPageWiringEnabled() {
+        return getBooleanProperty("pageWiring.lazy", false);
+    }
+
+    //Screenshot settings
+    public static int getScreenshotWriterThreads() {
+        return Math.max(1, getIntProperty("screenshot.writerThreads", 2));
+    }
+
+    public static int getScreenshotQueueCapacity() {
+        return Math.max(1, getIntProperty("screenshot.queueCapacity", 32));
+    }
+
+    public static int getScreenshotFlushTimeoutSeconds() {
+        return getIntProperty("screenshot.flushTimeoutSeconds", 30);
+    }
+
+    public static boolean isContentAddressedScreenshots() {
+        return getBooleanProperty("screenshot.contentAddressed", false);
+    }
+
+    public static String getScreenshotFormat() {
+        return getProperty("screenshot.format", "png").trim();
+    }
+
+    public static float getScreenshotQuality() {
+        return Float.parseFloat(getProperty("screenshot.quality", "0.8").trim());
+    }
+
+    public static int getScreenshotMaxWidth() {
+        return getIntProperty("screenshot.maxWidth", 0);
+    }
+
+    //Report media settings
+    public static boolean isExternalReportMedia() {
+        // The shard merger can't carry embedded images over, so sharded runs always write media files
+        return isReportShardingEnabled() || "external".equalsIgnoreCase(getProperty("report.media", "embedded").trim());
+    }
+
+    public static int getReportThumbnailWidth() {
+        return getIntProperty("report.thumbnailWidth", 0);
+    }
+
+    //Report pipeline settings
+    public static boolean isAsyncReporting() {
+        return getBooleanProperty("report.async", false);
+    }
+
+    public static int getReportFlushIntervalSeconds() {
+        return Math.max(1, getIntProperty("report.flushIntervalSeconds", 10));
+    }
+
+    public static int getReportDrainSeconds() {
+        return getIntProperty("report.drainSeconds", 60);
+    }
+
+    public static boolean isReportEventLogEnabled() {
+        return getBooleanProperty("report.eventLog", false);
+    }
+
+    //Report sharding settings
+    public static boolean isReportShardingEnabled() {
+        return getBooleanProperty("report.sharded", false);
+    }
+
+    public static String getReportShardId() {
+        String shardId = System.getProperty("report.shardId");
+
+        if(shardId == null || shardId.trim().isEmpty()) {
+            shardId = getProperty("report.shardId", "");
+        }
+        if(shardId.trim().isEmpty()) {
+            // Unique per JVM, so forks on one machine and agents sharing a workspace never collide
+            shardId = ManagementFactory.getRuntimeMXBean().getName().replace('@', '-');
+        }
+        return shardId.trim();
+    }
+
+    public static String getReportRunId() {
+        String runId = System.getProperty("report.runId");
+
+        if(runId == null || runId.trim().isEmpty()) {
+            runId = getProperty("report.runId", "");
+        }
+        return runId.trim();
+    }
+
+    //Test ordering settings
+    public static boolean isTestOrderingEnabled() {
+        return getBooleanProperty("testOrdering.enabled", false);
+    }
+
+    public static String getTestOrderingHistoryFile() {
+        return getProperty("testOrdering.historyFile",
+                System.getProperty("user.home") + "/.cache/medsky-automation/test-durations.properties");
+    }
+
+    public static long getTestOrderingDefaultMillis() {
+        return getLongProperty("testOrdering.defaultMillis", 30000L);
+    }
 }
@@ -0,0 +1,160 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.utils.LatencyHistogram;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of every WebDriver command into histograms, per command and per page-object method
+ * that issued it, and writes a percentile table at suite end.
+ */
+public final class CommandLatencyListener implements WebDriverListener {
+    private static final Logger logger = LoggerFactory.getLogger(CommandLatencyListener.class);
+    private static final CommandLatencyListener INSTANCE = new CommandLatencyListener();
+
+    private static final String PAGES_PACKAGE = "com.medsky.automation.pages.";
+    private static final Set<String> PAGE_INFRASTRUCTURE = Set.of(
+            PAGES_PACKAGE + "BasePage", PAGES_PACKAGE + "CachingFieldDecorator", PAGES_PACKAGE + "PageWiring");
+    private static final String OUTSIDE_PAGES = "(outside page objects)";
+
+    // Accessors that only hand out decorated helper objects and never reach the browser
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "getWrappedDriver", "getWrappedElement");
+
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final Map<String, LatencyHistogram> commandHistograms = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> pageMethodHistograms = new ConcurrentHashMap<>();
+    private static final ThreadLocal<CallStack> callStacks = ThreadLocal.withInitial(CallStack::new);
+
+    private CommandLatencyListener() {}
+
+    public static WebDriverListener getListener() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        callStacks.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method);
+    }
+
+    /**
+     * Writes the percentile tables to {@code command-latency.txt} in the given directory.
+     */
+    public static void writeReport(File directory) {
+        if (commandHistograms.isEmpty()) {
+            return;
+        }
+
+        File reportFile = new File(directory, "command-latency.txt");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8))) {
+            writeTable(writer, "WebDriver command", commandHistograms);
+            writer.println();
+            writeTable(writer, "Page-object method", pageMethodHistograms);
+        } catch (IOException e) {
+            logger.warn("Unable to write command latency report: {}", reportFile, e);
+            return;
+        }
+
+        long commands = commandHistograms.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+        long totalMicros = commandHistograms.values().stream().mapToLong(LatencyHistogram::getTotalMicros).sum();
+        logger.info("Command latency - commands: {}, time in WebDriver: {} s, report: {}",
+                commands, TimeUnit.MICROSECONDS.toSeconds(totalMicros), reportFile);
+    }
+
+    // --- Helper Methods ---
+
+    private static void record(Method method) {
+        long startNanos = callStacks.get().pop();
+        String command = method.getName();
+        if (startNanos < 0 || LOCAL_CALLS.contains(command)) {
+            return;
+        }
+
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        commandHistograms.computeIfAbsent(command, k -> new LatencyHistogram()).record(micros);
+        pageMethodHistograms.computeIfAbsent(findPageMethod(), k -> new LatencyHistogram()).record(micros);
+    }
+
+    private static String findPageMethod() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> isPageObjectFrame(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                .orElse(OUTSIDE_PAGES));
+    }
+
+    private static boolean isPageObjectFrame(String className) {
+        if (!className.startsWith(PAGES_PACKAGE)) {
+            return false;
+        }
+        // Nested helpers (locators, lazy elements) belong to their infrastructure class
+        int nested = className.indexOf('$');
+        return !PAGE_INFRASTRUCTURE.contains(nested < 0 ? className : className.substring(0, nested));
+    }
+
+    private static void writeTable(PrintWriter writer, String title, Map<String, LatencyHistogram> histograms) {
+        writer.printf("%-40s %8s %10s %10s %10s %10s %12s%n", title, "count", "p50 ms", "p90 ms", "p99 ms", "max ms", "total ms");
+        List<Map.Entry<String, LatencyHistogram>> rows = new ArrayList<>(histograms.entrySet());
+        rows.sort(Comparator.comparingLong(
+                (Map.Entry<String, LatencyHistogram> row) -> row.getValue().getTotalMicros()).reversed());
+
+        for (Map.Entry<String, LatencyHistogram> row : rows) {
+            LatencyHistogram histogram = row.getValue();
+            writer.printf("%-40s %8d %10.1f %10.1f %10.1f %10.1f %12.1f%n", row.getKey(), histogram.getCount(),
+                    toMillis(histogram.getPercentileMicros(50)), toMillis(histogram.getPercentileMicros(90)),
+                    toMillis(histogram.getPercentileMicros(99)), toMillis(histogram.getMaxMicros()),
+                    toMillis(histogram.getTotalMicros()));
+        }
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Start times of the commands currently executing on one thread; decorated helper objects can nest calls.
+     */
+    private static final class CallStack {
+        private long[] startNanos = new long[8];
+        private int depth;
+
+        private void push(long nanos) {
+            if (depth == startNanos.length) {
+                startNanos = Arrays.copyOf(startNanos, depth * 2);
+            }
+            startNanos[depth++] = nanos;
+        }
+
+        private long pop() {
+            return depth == 0 ? -1 : startNanos[--depth];
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.utils.FileHelper;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves local driver binaries once per browser per JVM and remembers the result on disk
+ * (driver version, path and SHA-256) so later runs can skip WebDriverManager entirely, including offline.
+ */
+public final class DriverBinaryResolver {
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    private static final Map<String, String> resolvedDrivers = new ConcurrentHashMap<>();
+
+    private static final AtomicLong resolveCount = new AtomicLong();
+    private static final AtomicLong resolveNanos = new AtomicLong();
+    private static final AtomicLong diskHitCount = new AtomicLong();
+    private static final AtomicLong diskHitNanos = new AtomicLong();
+    private static final AtomicLong memoryHitCount = new AtomicLong();
+
+    private DriverBinaryResolver() {}
+
+    /**
+     * Makes sure the driver binary for the browser is available and registered with Selenium.
+     * Concurrent callers for the same browser wait for the single resolution in progress.
+     */
+    public static void resolve(String browserName) {
+        String browser = browserName.toLowerCase();
+        if (resolvedDrivers.containsKey(browser)) {
+            memoryHitCount.incrementAndGet();
+            return;
+        }
+        resolvedDrivers.computeIfAbsent(browser, DriverBinaryResolver::resolveOnce);
+    }
+
+    /**
+     * Drops the cached resolution, e.g. after the installed browser was updated and the driver no longer matches.
+     */
+    public static synchronized void invalidate(String browserName) {
+        String browser = browserName.toLowerCase();
+        resolvedDrivers.remove(browser);
+
+        Properties cache = loadCache();
+        cache.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(getCacheKey(browser) + "."))
+                .forEach(cache::remove);
+        storeCache(cache);
+        logger.info("Driver resolution cache invalidated for: {}", browser);
+    }
+
+    public static void logStats() {
+        if (resolveCount.get() == 0 && diskHitCount.get() == 0) {
+            return;
+        }
+        logger.info("Driver binary resolution - resolved: {} ({} ms), disk cache hits: {} ({} ms), in-memory hits: {}",
+                resolveCount.get(), TimeUnit.NANOSECONDS.toMillis(resolveNanos.get()),
+                diskHitCount.get(), TimeUnit.NANOSECONDS.toMillis(diskHitNanos.get()),
+                memoryHitCount.get());
+    }
+
+    // --- Helper Methods ---
+
+    private static String resolveOnce(String browser) {
+        long startTime = System.nanoTime();
+        String cachedPath = getCachedDriverPath(browser);
+        if (cachedPath != null) {
+            diskHitCount.incrementAndGet();
+            diskHitNanos.addAndGet(System.nanoTime() - startTime);
+            logger.info("Using cached {} driver: {}", browser, cachedPath);
+            return cachedPath;
+        }
+
+        WebDriverManager manager = getManager(browser);
+        if (ConfigReader.getBrowserVersion() != null) {
+            manager.browserVersion(ConfigReader.getBrowserVersion());
+        }
+        manager.setup();
+        String driverPath = manager.getDownloadedDriverPath();
+
+        resolveCount.incrementAndGet();
+        resolveNanos.addAndGet(System.nanoTime() - startTime);
+        logger.info("Resolved {} driver {} in {} ms", browser, manager.getDownloadedDriverVersion(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        // Safari ships its own driver, nothing to remember
+        if (driverPath == null) {
+            return "";
+        }
+
+        saveCachedDriver(browser, manager.getDownloadedDriverVersion(), driverPath);
+        return driverPath;
+    }
+
+    private static synchronized String getCachedDriverPath(String browser) {
+        String driverProperty = getDriverSystemProperty(browser);
+        if (driverProperty == null) {
+            return null;
+        }
+
+        Properties cache = loadCache();
+        String key = getCacheKey(browser);
+        String driverPath = cache.getProperty(key + ".driverPath");
+        String checksum = cache.getProperty(key + ".sha256");
+        String resolvedAt = cache.getProperty(key + ".resolvedAt");
+        if (driverPath == null || checksum == null || resolvedAt == null) {
+            return null;
+        }
+
+        long ageMillis;
+        try {
+            ageMillis = System.currentTimeMillis() - Long.parseLong(resolvedAt.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring corrupt cached {} driver entry: resolvedAt={}", browser, resolvedAt);
+            return null;
+        }
+        if (!ConfigReader.isDriverCacheOffline() && ageMillis > TimeUnit.HOURS.toMillis(ConfigReader.getDriverCacheTtlHours())) {
+            logger.debug("Cached {} driver entry expired", browser);
+            return null;
+        }
+
+        File driverFile = new File(driverPath);
+        if (!driverFile.isFile() || !checksum.equals(sha256(driverFile))) {
+            logger.warn("Cached {} driver missing or checksum mismatch: {}", browser, driverPath);
+            return null;
+        }
+
+        System.setProperty(driverProperty, driverPath);
+        return driverPath;
+    }
+
+    private static synchronized void saveCachedDriver(String browser, String driverVersion, String driverPath) {
+        String checksum = sha256(new File(driverPath));
+        if (checksum == null) {
+            return;
+        }
+
+        Properties cache = loadCache();
+        String key = getCacheKey(browser);
+        cache.setProperty(key + ".driverVersion", String.valueOf(driverVersion));
+        cache.setProperty(key + ".driverPath", driverPath);
+        cache.setProperty(key + ".sha256", checksum);
+        cache.setProperty(key + ".resolvedAt", String.valueOf(System.currentTimeMillis()));
+        storeCache(cache);
+    }
+
+    private static Properties loadCache() {
+        Properties cache = new Properties();
+        File cacheFile = new File(ConfigReader.getDriverCacheFile());
+        if (cacheFile.isFile()) {
+            try (InputStream inputStream = Files.newInputStream(cacheFile.toPath())) {
+                cache.load(inputStream);
+            } catch (IOException e) {
+                logger.warn("Unable to read driver resolution cache: {}", cacheFile, e);
+            }
+        }
+        return cache;
+    }
+
+    private static void storeCache(Properties cache) {
+        File cacheFile = new File(ConfigReader.getDriverCacheFile());
+        try {
+            FileHelper.writeAtomically(cacheFile.toPath(),
+                    outputStream -> cache.store(outputStream, "Driver binary resolution cache"));
+        } catch (IOException e) {
+            logger.warn("Unable to write driver resolution cache: {}", cacheFile, e);
+        }
+    }
+
+    private static String sha256(File file) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(Files.readAllBytes(file.toPath()));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (Exception e) {
+            logger.debug("Unable to checksum driver binary: {}", file, e);
+            return null;
+        }
+    }
+
+    private static String getCacheKey(String browser) {
+        // Key on the browser version when it is pinned, so a browser upgrade gets its own entry
+        String browserVersion = ConfigReader.getBrowserVersion() != null ? ConfigReader.getBrowserVersion() : "installed";
+        return browser + "." + browserVersion + "." + System.getProperty("os.name").replace(' ', '_').toLowerCase();
+    }
+
+    private static WebDriverManager getManager(String browser) {
+        switch (browser) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+
+            case "safari":
+                return WebDriverManager.safaridriver();
+
+            default:
+                throw new IllegalArgumentException("Unsupported browser name: " + browser);
+        }
+    }
+
+    private static String getDriverSystemProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+
+            case "firefox":
+                return "webdriver.gecko.driver";
+
+            default:
+                return null;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.medsky.automation.core;
 
 import com.medsky.automation.config.ConfigReader;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.medsky.automation.utils.NetworkIdleWait;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
@@ -11,11 +13,15 @@ import org.openqa.selenium.remote.AbstractDriverOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class DriverFactory {
     private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
@@ -51,42 +57,102 @@ public final class DriverFactory {
                     break;
             }
 
+            URL gridUrl;
             try {
-                logger.info("Connecting to Remote Grid: {} with browser: {}", remoteURL, browserName);
-                driver = new RemoteWebDriver(new URL(remoteURL), browserOptions);
+                gridUrl = new URL(remoteURL);
             } catch (MalformedURLException e) {
                 throw new RuntimeException("Invalid Remote URL: " + remoteURL, e);
             }
 
+            logger.info("Connecting to Remote Grid: {} with browser: {}", remoteURL, browserName);
+            driver = GridAdmissionController.createSession(browserName,
+                    () -> decorate(prepare(createRemoteDriver(gridUrl, browserOptions))));
+
         } else {
             //LOCAL EXECUTION
-            switch(browserName.toLowerCase()) {
-                case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    ChromeOptions chromeOptions = getChromeOptions();
-                    driver = new ChromeDriver(chromeOptions);
-                    break;
+            setupDriverBinary(browserName);
+            try {
+                driver = decorate(prepare(createLocalDriver(browserName)));
+            } catch (SessionNotCreatedException e) {
+                // Usually a browser update made the cached driver binary stale
+                logger.warn("Local session not created, re-resolving driver binary: {}", e.getMessage());
+                DriverBinaryResolver.invalidate(browserName);
+                setupDriverBinary(browserName);
+                driver = decorate(prepare(createLocalDriver(browserName)));
+            }
+        }
 
-                case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    FirefoxOptions firefoxOptions = getFirefoxOptions();
-                    driver = new FirefoxDriver(firefoxOptions);
-                    break;
+        return driver;
+    }
 
-                case "safari":
-                    WebDriverManager.safaridriver().setup();
-                    SafariOptions safariOptions = getSafariOptions();
-                    driver = new SafariDriver(safariOptions);
-                    break;
+    public static void quitDriver(WebDriver driver){
+        try {
+            LeanModeInterceptor.detach(driver);
+            driver.quit();
+        } finally {
+            GridAdmissionController.release(driver);
+        }
+    }
 
-                default:
-                    throw new IllegalArgumentException("Unsupported browser name: " + browserName);
-            }
+    public static WebDriver unwrap(WebDriver driver){
+        return driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+    }
+
+    public static void setupDriverBinary(String browserName){
+        DriverBinaryResolver.resolve(browserName);
+    }
+
+    private static WebDriver createRemoteDriver(URL gridUrl, AbstractDriverOptions<?> browserOptions){
+        if(ConfigReader.isSharedHttpClientEnabled()) {
+            return SharedHttpClientFactory.createDriver(gridUrl, browserOptions);
         }
+        return new RemoteWebDriver(gridUrl, browserOptions);
+    }
 
+    private static WebDriver prepare(WebDriver driver){
+        if(ConfigReader.isLeanModeEnabled()) {
+            LeanModeInterceptor.install(driver);
+        }
+        if(ConfigReader.isNetworkIdlePreloadEnabled()) {
+            NetworkIdleWait.install(driver);
+        }
         return driver;
     }
 
+    private static WebDriver decorate(WebDriver driver){
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if(ConfigReader.isCommandLatencyEnabled()) {
+            listeners.add(CommandLatencyListener.getListener());
+        }
+        if(ConfigReader.isWatchdogEnabled()) {
+            listeners.add(SessionWatchdog.getListener());
+        }
+
+        if(listeners.isEmpty()) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+    }
+
+    private static WebDriver createLocalDriver(String browserName){
+        switch(browserName.toLowerCase()) {
+            case "chrome":
+                ChromeOptions chromeOptions = getChromeOptions();
+                return new ChromeDriver(chromeOptions);
+
+            case "firefox":
+                FirefoxOptions firefoxOptions = getFirefoxOptions();
+                return new FirefoxDriver(firefoxOptions);
+
+            case "safari":
+                SafariOptions safariOptions = getSafariOptions();
+                return new SafariDriver(safariOptions);
+
+            default:
+                throw new IllegalArgumentException("Unsupported browser name: " + browserName);
+        }
+    }
+
     private static ChromeOptions getChromeOptions(){
         ChromeOptions chromeOptions = new ChromeOptions();
         if(ConfigReader.getRunMode().equalsIgnoreCase("remote")) {
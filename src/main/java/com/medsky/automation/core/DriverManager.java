@@ -1,5 +1,6 @@
 package com.medsky.automation.core;
 
+import com.medsky.automation.config.ConfigReader;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +9,10 @@ public final class DriverManager {
     private static final ThreadLocal<WebDriver> tlDriver = new ThreadLocal<>();
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
 
+    public static void initDriver(String browserName){
+        setDriver(leaseDriver(browserName));
+    }
+
     public static void setDriver(WebDriver driver){
         tlDriver.set(driver);
     }
@@ -20,7 +25,15 @@ public final class DriverManager {
         WebDriver driver = tlDriver.get();
         if(driver != null){
             try{
-                driver.quit();
+                if(ConfigReader.isWatchdogEnabled() && SessionWatchdog.isSuspect(driver)) {
+                    reapDriver(driver);
+                } else if(ConfigReader.isDriverPoolEnabled()) {
+                    DriverPool.release(driver);
+                } else if(ConfigReader.isAsyncTeardownEnabled()) {
+                    DriverTeardownExecutor.quitAsync(driver);
+                } else {
+                    DriverFactory.quitDriver(driver);
+                }
             } catch (Exception e){
                 logger.debug("Unable to quit browser on threadId: {}", Thread.currentThread().getId());
             } finally {
@@ -30,5 +43,44 @@ public final class DriverManager {
         tlDriver.remove();
     }
 
+    public static void shutdown(){
+        if(ConfigReader.isAsyncTeardownEnabled()) {
+            DriverTeardownExecutor.drain();
+        }
+        SessionWarmer.shutdown();
+        DriverBinaryResolver.logStats();
+        GridAdmissionController.shutdown();
+        if(ConfigReader.isWatchdogEnabled()) {
+            SessionWatchdog.shutdown();
+        }
+        if(ConfigReader.isDriverPoolEnabled()) {
+            DriverPool.shutdown();
+        }
+        LeanModeInterceptor.logStats();
+        SharedHttpClientFactory.shutdown();
+    }
+
+    private static WebDriver leaseDriver(String browserName){
+        if(ConfigReader.isDriverPoolEnabled()) {
+            return DriverPool.acquire(browserName);
+        }
 
+        // Warmed sessions may have died while idle; replace them before the test sees them
+        WebDriver warmDriver;
+        while((warmDriver = SessionWarmer.takeWarmSession(browserName)) != null) {
+            if(!ConfigReader.isWatchdogEnabled() || SessionWatchdog.isAlive(warmDriver)) {
+                return warmDriver;
+            }
+            logger.warn("Warm session for threadId: {} is not responding, replacing it", Thread.currentThread().getId());
+            SessionWatchdog.reap(warmDriver);
+        }
+        return DriverFactory.initDriver(browserName);
+    }
+
+    private static void reapDriver(WebDriver driver){
+        if(ConfigReader.isDriverPoolEnabled()) {
+            DriverPool.forget(driver);
+        }
+        SessionWatchdog.reap(driver);
+    }
 }
@@ -0,0 +1,248 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.enums.SessionResetPolicy;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps live browser sessions between tests. A session is leased to one test thread at a time,
+ * reset according to the configured {@link SessionResetPolicy} when it is released and quit once
+ * it has been used {@code driverPool.maxUses} times or sat idle longer than {@code driverPool.maxIdleSeconds}.
+ */
+public final class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private static final int maxSize = ConfigReader.getDriverPoolMaxSize();
+    private static final int maxUses = ConfigReader.getDriverPoolMaxUses();
+    private static final long maxIdleNanos = TimeUnit.SECONDS.toNanos(ConfigReader.getDriverPoolMaxIdleSeconds());
+    private static final SessionResetPolicy resetPolicy = ConfigReader.getDriverPoolResetPolicy();
+
+    private static final Map<String, Deque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledSession> leasedSessions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+
+    private DriverPool() {}
+
+    public static WebDriver acquire(String browserName) {
+        String key = getPoolKey(browserName);
+        Deque<PooledSession> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            if (session.isIdleExpired()) {
+                evict(session, "idle timeout");
+                continue;
+            }
+            // Idle sessions may have died in the meantime; fresh ones below are not probed
+            if (ConfigReader.isWatchdogEnabled() && !SessionWatchdog.isAlive(session.driver)) {
+                logger.warn("Pooled session for key: {} is not responding, replacing it", key);
+                evictions.incrementAndGet();
+                SessionWatchdog.reap(session.driver);
+                continue;
+            }
+            hits.incrementAndGet();
+            logger.debug("Reusing pooled session for key: {} (use #{})", key, session.useCount + 1);
+            return lease(session);
+        }
+
+        misses.incrementAndGet();
+        logger.debug("No idle session for key: {}, creating a new one", key);
+        return lease(new PooledSession(key, DriverFactory.initDriver(browserName)));
+    }
+
+    public static void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            logger.debug("Driver was not leased from the pool, quitting it");
+            quitQuietly(driver);
+            return;
+        }
+
+        if (session.useCount >= maxUses) {
+            evict(session, "max uses reached");
+            return;
+        }
+
+        try {
+            resetSession(driver);
+        } catch (Exception e) {
+            logger.warn("Unable to reset pooled session, evicting it: {}", e.getMessage());
+            evict(session, "reset failed");
+            return;
+        }
+
+        // Most recently used session goes first so the warm ones keep getting picked
+        if (!addIdle(session, true)) {
+            evict(session, "pool full");
+        }
+    }
+
+    /**
+     * Drops a leased session from the pool without quitting it, e.g. when it was found dead and is reaped elsewhere.
+     */
+    public static void forget(WebDriver driver) {
+        if (leasedSessions.remove(driver) != null) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Adds a session created outside the pool (e.g. during suite warm-up) as idle so the next lease picks it up.
+     * The session is quit instead when the pool already holds {@code driverPool.maxSize} idle sessions.
+     */
+    public static void offer(String browserName, WebDriver driver) {
+        PooledSession session = new PooledSession(getPoolKey(browserName), driver);
+        if (!addIdle(session, false)) {
+            evict(session, "pool full");
+        }
+    }
+
+    /**
+     * Quits the least recently used idle session of the browser, under any pool key, so its Grid slot frees up
+     * for a thread waiting to create one. Returns {@code false} when no such session is idle.
+     */
+    public static boolean evictIdle(String browserName) {
+        String prefix = browserName.toLowerCase() + "|";
+        for (Map.Entry<String, Deque<PooledSession>> entry : idleSessions.entrySet()) {
+            PooledSession session = entry.getKey().startsWith(prefix) ? entry.getValue().pollLast() : null;
+            if (session != null) {
+                evict(session, "Grid slot needed");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void shutdown() {
+        idleSessions.values().forEach(idle -> {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                quitQuietly(session.driver);
+            }
+        });
+
+        if (ConfigReader.isDriverPoolStatsEnabled()) {
+            long total = hits.get() + misses.get();
+            double hitRatio = total == 0 ? 0 : (hits.get() * 100.0) / total;
+            logger.info("Driver pool stats - leases: {}, hits: {}, misses: {}, evictions: {}, hit ratio: {}%",
+                    total, hits.get(), misses.get(), evictions.get(), String.format("%.1f", hitRatio));
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getEvictions() {
+        return evictions.get();
+    }
+
+    // --- Helper Methods ---
+
+    private static WebDriver lease(PooledSession session) {
+        session.useCount++;
+        leasedSessions.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Adds the session as idle unless its key already has {@code maxSize} idle sessions. Check and insert happen
+     * under the deque's lock; leases only ever shrink the deque, so they don't need it.
+     */
+    private static boolean addIdle(PooledSession session, boolean mostRecent) {
+        Deque<PooledSession> idle = idleSessions.computeIfAbsent(session.key, k -> new ConcurrentLinkedDeque<>());
+        synchronized (idle) {
+            if (idle.size() >= maxSize) {
+                return false;
+            }
+            session.lastReleasedAt = System.nanoTime();
+            if (mostRecent) {
+                idle.offerFirst(session);
+            } else {
+                idle.offerLast(session);
+            }
+            return true;
+        }
+    }
+
+    private static void evict(PooledSession session, String reason) {
+        evictions.incrementAndGet();
+        logger.debug("Evicting pooled session for key: {} after {} uses ({})", session.key, session.useCount, reason);
+        if (ConfigReader.isAsyncTeardownEnabled()) {
+            DriverTeardownExecutor.quitAsync(session.driver);
+        } else {
+            quitQuietly(session.driver);
+        }
+    }
+
+    private static void resetSession(WebDriver driver) {
+        if (resetPolicy == SessionResetPolicy.NONE) {
+            return;
+        }
+
+        Set<String> handles = driver.getWindowHandles();
+        String primaryHandle = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(primaryHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(primaryHandle);
+
+        // Storage and cookies are scoped to the current origin, so clear them before leaving the page
+        if (resetPolicy == SessionResetPolicy.FULL) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        }
+        driver.manage().deleteAllCookies();
+        driver.get("about:blank");
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            DriverFactory.quitDriver(driver);
+        } catch (Exception e) {
+            logger.debug("Unable to quit pooled browser: {}", e.getMessage());
+        }
+    }
+
+    private static String getPoolKey(String browserName) {
+        return browserName.toLowerCase() + "|" + ConfigReader.getRunMode().toLowerCase() + "|headless=" + ConfigReader.isHeadless();
+    }
+
+    private static final class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private int useCount;
+        private long lastReleasedAt;
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+
+        private boolean isIdleExpired() {
+            return System.nanoTime() - lastReleasedAt > maxIdleNanos;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Quits drivers on a small background pool so the test thread can move on to its next test.
+ * The number of quits in flight is capped; once the cap is hit the caller quits inline.
+ */
+public final class DriverTeardownExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(DriverTeardownExecutor.class);
+
+    private static final Semaphore outstandingQuits = new Semaphore(ConfigReader.getAsyncTeardownMaxOutstanding());
+    private static final Map<String, AtomicInteger> failuresByThread = new ConcurrentHashMap<>();
+    private static final AtomicLong submittedCount = new AtomicLong();
+    private static final AtomicLong inlineCount = new AtomicLong();
+    private static final AtomicLong failureCount = new AtomicLong();
+
+    // Replaced by drain(); a quit submitted to the old executor while it shuts down is rejected and runs inline
+    private static volatile ExecutorService executor = createExecutor();
+
+    private DriverTeardownExecutor() {}
+
+    public static void quitAsync(WebDriver driver) {
+        String ownerThread = Thread.currentThread().getName();
+
+        if (!outstandingQuits.tryAcquire()) {
+            inlineCount.incrementAndGet();
+            logger.debug("Too many outstanding quits, quitting inline on thread: {}", ownerThread);
+            quit(driver, ownerThread);
+            return;
+        }
+
+        submittedCount.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    quit(driver, ownerThread);
+                } finally {
+                    outstandingQuits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            outstandingQuits.release();
+            quit(driver, ownerThread);
+        }
+    }
+
+    /**
+     * Waits for all submitted quits to finish. Called once at suite end.
+     */
+    public static synchronized void drain() {
+        executor.shutdown();
+        try {
+            int timeout = ConfigReader.getAsyncTeardownDrainSeconds();
+            if (!executor.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                logger.warn("Background driver quits still running after {} seconds", timeout);
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while draining background driver quits", e);
+            Thread.currentThread().interrupt();
+        }
+
+        if (submittedCount.get() > 0 || inlineCount.get() > 0) {
+            logger.info("Async teardown - background quits: {}, inline quits: {}, failed quits: {} {}",
+                    submittedCount.get(), inlineCount.get(), failureCount.get(), failuresByThread);
+        }
+        executor = createExecutor();
+    }
+
+    public static long getFailureCount() {
+        return failureCount.get();
+    }
+
+    private static void quit(WebDriver driver, String ownerThread) {
+        try {
+            DriverFactory.quitDriver(driver);
+        } catch (Exception e) {
+            failureCount.incrementAndGet();
+            int threadFailures = failuresByThread.computeIfAbsent(ownerThread, k -> new AtomicInteger()).incrementAndGet();
+            logger.warn("Unable to quit browser released by thread: {} (failure #{} on that thread): {}",
+                    ownerThread, threadFailures, e.getMessage());
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        int threads = ConfigReader.getAsyncTeardownThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "driver-teardown-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
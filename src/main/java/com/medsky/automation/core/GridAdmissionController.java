@@ -0,0 +1,257 @@
+package com.medsky.automation.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Gates remote session creation on the real slot capacity reported by the Grid {@code /status} endpoint,
+ * so test threads queue here (fairly) instead of inside the Grid where they burn their timeouts.
+ */
+public final class GridAdmissionController {
+    private static final Logger logger = LoggerFactory.getLogger(GridAdmissionController.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final long RECLAIM_INTERVAL_MILLIS = 1000;
+
+    private static final Map<String, CapacitySemaphore> capacityByBrowser = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> freeSlotsByBrowser = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, CapacitySemaphore> admittedSessions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static final AtomicLong admittedCount = new AtomicLong();
+    private static final AtomicLong totalWaitMillis = new AtomicLong();
+    private static final AtomicLong maxWaitMillis = new AtomicLong();
+    private static final AtomicLong retryCount = new AtomicLong();
+
+    private static HttpClient httpClient;
+    private static ScheduledExecutorService statusPoller;
+    private static volatile boolean gridReachable;
+
+    private GridAdmissionController() {}
+
+    public static WebDriver createSession(String browserName, Supplier<WebDriver> sessionFactory) {
+        if (!ConfigReader.isGridAdmissionEnabled()) {
+            return sessionFactory.get();
+        }
+
+        startPolling();
+        String browser = browserName.toLowerCase();
+        CapacitySemaphore semaphore = capacityByBrowser.computeIfAbsent(browser, CapacitySemaphore::new);
+        if (!gridReachable || !semaphore.isCapacityKnown()) {
+            // Still counted against the slots, so these sessions are accounted for once polling recovers
+            logger.debug("No Grid capacity known for {}, creating session without waiting for a slot", browser);
+            semaphore.acquireWithoutWaiting();
+        } else {
+            waitForSlot(browser, semaphore);
+        }
+        try {
+            WebDriver driver = createWithRetry(sessionFactory);
+            admittedSessions.put(driver, semaphore);
+            return driver;
+        } catch (RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives the slot held by the session back. Called once the session has been quit.
+     */
+    public static void release(WebDriver driver) {
+        CapacitySemaphore semaphore = admittedSessions.remove(driver);
+        if (semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    public static int getFreeSlots(String browserName) {
+        return freeSlotsByBrowser.getOrDefault(browserName.toLowerCase(), 0);
+    }
+
+    public static synchronized void shutdown() {
+        if (statusPoller != null) {
+            statusPoller.shutdownNow();
+            statusPoller = null;
+        }
+
+        if (admittedCount.get() > 0) {
+            logger.info("Grid admission - sessions admitted: {}, avg queue wait: {} ms, max queue wait: {} ms, creation retries: {}",
+                    admittedCount.get(), totalWaitMillis.get() / admittedCount.get(), maxWaitMillis.get(), retryCount.get());
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private static void waitForSlot(String browser, CapacitySemaphore semaphore) {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + TimeUnit.SECONDS.toMillis(ConfigReader.getGridAdmissionTimeoutSeconds());
+        boolean reclaimed = false;
+        try {
+            while (!semaphore.tryAcquire(Math.min(RECLAIM_INTERVAL_MILLIS, Math.max(0, deadline - System.currentTimeMillis())),
+                    TimeUnit.MILLISECONDS)) {
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new SessionNotCreatedException("No free Grid slot for " + browser + " within "
+                            + ConfigReader.getGridAdmissionTimeoutSeconds() + " seconds");
+                }
+                // Idle pooled or warm sessions still hold their slot; have one quit to make room for this thread
+                if (!reclaimed) {
+                    reclaimed = DriverPool.evictIdle(browser) || SessionWarmer.discardWarmSession(browser);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a Grid slot", e);
+        }
+
+        long waitMillis = System.currentTimeMillis() - startTime;
+        admittedCount.incrementAndGet();
+        totalWaitMillis.addAndGet(waitMillis);
+        maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+        logger.debug("Admitted {} session on threadId: {} after {} ms in queue",
+                browser, Thread.currentThread().getId(), waitMillis);
+    }
+
+    private static WebDriver createWithRetry(Supplier<WebDriver> sessionFactory) {
+        int maxRetries = ConfigReader.getGridAdmissionMaxRetries();
+        long backoffMillis = ConfigReader.getGridAdmissionBackoffMillis();
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return sessionFactory.get();
+            } catch (SessionNotCreatedException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                retryCount.incrementAndGet();
+                // Full jitter keeps threads that failed together from retrying together
+                long delay = ThreadLocalRandom.current().nextLong(backoffMillis * (1L << attempt) + 1);
+                logger.warn("Session not created (attempt #{}), retrying in {} ms: {}", attempt + 1, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static synchronized void startPolling() {
+        if (statusPoller != null) {
+            return;
+        }
+
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        refreshCapacity();
+
+        statusPoller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grid-status-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int pollSeconds = ConfigReader.getGridAdmissionPollSeconds();
+        statusPoller.scheduleWithFixedDelay(GridAdmissionController::refreshCapacity, pollSeconds, pollSeconds, TimeUnit.SECONDS);
+    }
+
+    private static void refreshCapacity() {
+        String statusUrl = ConfigReader.getRemoteURL().replaceAll("/+$", "").replaceAll("/wd/hub$", "") + "/status";
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(statusUrl)).timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            applyStatus(objectMapper.readTree(response.body()));
+            gridReachable = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (gridReachable) {
+                logger.warn("Unable to read Grid status from {}: {}", statusUrl, e.getMessage());
+            } else {
+                logger.debug("Unable to read Grid status from {}: {}", statusUrl, e.getMessage());
+            }
+        }
+    }
+
+    private static void applyStatus(JsonNode status) {
+        Map<String, Integer> totalSlots = new HashMap<>();
+        Map<String, Integer> freeSlots = new HashMap<>();
+
+        for (JsonNode node : status.path("value").path("nodes")) {
+            if (!"UP".equalsIgnoreCase(node.path("availability").asText("UP"))) {
+                continue;
+            }
+            for (JsonNode slot : node.path("slots")) {
+                String browser = slot.path("stereotype").path("browserName").asText("").toLowerCase();
+                if (browser.isEmpty()) {
+                    continue;
+                }
+                totalSlots.merge(browser, 1, Integer::sum);
+                if (slot.path("session").isNull() || slot.path("session").isMissingNode()) {
+                    freeSlots.merge(browser, 1, Integer::sum);
+                }
+            }
+        }
+
+        freeSlotsByBrowser.clear();
+        freeSlotsByBrowser.putAll(freeSlots);
+        totalSlots.forEach((browser, capacity) ->
+                capacityByBrowser.computeIfAbsent(browser, CapacitySemaphore::new).resize(capacity));
+        logger.debug("Grid capacity: {}, free slots: {}", totalSlots, freeSlots);
+    }
+
+    private static final class CapacitySemaphore extends Semaphore {
+        private final String browser;
+        private int capacity;
+        private volatile boolean capacityKnown;
+
+        private CapacitySemaphore(String browser) {
+            super(0, true);
+            this.browser = browser;
+        }
+
+        private boolean isCapacityKnown() {
+            return capacityKnown;
+        }
+
+        /**
+         * Takes a permit even when none is free, leaving the count negative until the session is released.
+         */
+        private void acquireWithoutWaiting() {
+            reducePermits(1);
+        }
+
+        private synchronized void resize(int newCapacity) {
+            int delta = newCapacity - capacity;
+            if (delta > 0) {
+                release(delta);
+            } else if (delta < 0) {
+                reducePermits(-delta);
+            }
+            if (delta != 0) {
+                logger.info("Grid capacity for {} changed to {} slot(s)", browser, newCapacity);
+            }
+            capacity = newCapacity;
+            capacityKnown = true;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocks resources the tests never look at (images, fonts, analytics...) through Chrome DevTools.
+ * URL patterns go through {@code Network.setBlockedURLs}; resource types are paused with {@code Fetch.enable}
+ * and failed straight away, so only matching requests pay the interception round trip.
+ */
+public final class LeanModeInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(LeanModeInterceptor.class);
+
+    private static final Map<WebDriver, LeanSessionStats> sessionStats = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final LeanSessionStats totals = new LeanSessionStats(null);
+
+    private LeanModeInterceptor() {}
+
+    /**
+     * Installs the block lists on a freshly created session. Browsers without DevTools are left untouched.
+     */
+    public static void install(WebDriver driver) {
+        try {
+            WebDriver devToolsDriver = driver instanceof HasDevTools ? driver : new Augmenter().augment(driver);
+            if (!(devToolsDriver instanceof HasDevTools)) {
+                logger.debug("Lean mode needs Chrome DevTools, not available for: {}", driver.getClass().getSimpleName());
+                return;
+            }
+
+            DevTools devTools = ((HasDevTools) devToolsDriver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            LeanSessionStats stats = new LeanSessionStats(devTools);
+
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            devTools.addListener(new Event<>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                    params -> stats.bytesReceived.addAndGet(toLong(((Map<?, ?>) params).get("encodedDataLength"))));
+            devTools.addListener(new Event<>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+                    params -> {
+                        // "inspector" is the reason Chrome reports for Network.setBlockedURLs matches
+                        if ("inspector".equals(((Map<?, ?>) params).get("blockedReason"))) {
+                            stats.recordBlocked("url-pattern");
+                        }
+                    });
+
+            List<String> blockedUrls = ConfigReader.getLeanModeBlockedUrls();
+            if (!blockedUrls.isEmpty()) {
+                devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", blockedUrls)));
+            }
+
+            List<String> blockedTypes = ConfigReader.getLeanModeBlockedResourceTypes();
+            if (!blockedTypes.isEmpty()) {
+                List<Map<String, Object>> patterns = new ArrayList<>();
+                for (String resourceType : blockedTypes) {
+                    patterns.add(Map.of("urlPattern", "*", "resourceType", resourceType, "requestStage", "Request"));
+                }
+                devTools.addListener(new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE)),
+                        params -> {
+                            Map<?, ?> event = (Map<?, ?>) params;
+                            stats.recordBlocked(String.valueOf(event.get("resourceType")));
+                            devTools.send(new Command<>("Fetch.failRequest",
+                                    Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+                        });
+                devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+            }
+
+            sessionStats.put(driver, stats);
+            logger.debug("Lean mode installed - blocked URLs: {}, blocked resource types: {}", blockedUrls, blockedTypes);
+        } catch (Exception e) {
+            logger.warn("Unable to install lean mode, running with full page loads: {}", e.getMessage());
+        }
+    }
+
+    public static long getBlockedRequests(WebDriver driver) {
+        LeanSessionStats stats = sessionStats.get(DriverFactory.unwrap(driver));
+        return stats == null ? 0 : stats.blockedRequests.get();
+    }
+
+    public static long getBytesReceived(WebDriver driver) {
+        LeanSessionStats stats = sessionStats.get(DriverFactory.unwrap(driver));
+        return stats == null ? 0 : stats.bytesReceived.get();
+    }
+
+    /**
+     * Rolls the session's counters into the suite totals; called when the session is quit.
+     */
+    public static void detach(WebDriver driver) {
+        LeanSessionStats stats = sessionStats.remove(DriverFactory.unwrap(driver));
+        if (stats == null) {
+            return;
+        }
+
+        logger.debug("Lean session closed - blocked requests: {} {}, bytes received: {}",
+                stats.blockedRequests.get(), stats.blockedByType, stats.bytesReceived.get());
+        totals.blockedRequests.addAndGet(stats.blockedRequests.get());
+        totals.bytesReceived.addAndGet(stats.bytesReceived.get());
+        stats.blockedByType.forEach((type, count) ->
+                totals.blockedByType.computeIfAbsent(type, k -> new AtomicLong()).addAndGet(count.get()));
+        try {
+            stats.devTools.close();
+        } catch (Exception e) {
+            logger.debug("Unable to close DevTools session: {}", e.getMessage());
+        }
+    }
+
+    public static void logStats() {
+        new ArrayList<>(sessionStats.keySet()).forEach(LeanModeInterceptor::detach);
+        if (totals.blockedRequests.get() == 0 && totals.bytesReceived.get() == 0) {
+            return;
+        }
+        logger.info("Lean mode - blocked requests: {} {}, bytes received by browsers: {} KB",
+                totals.blockedRequests.get(), new HashMap<>(totals.blockedByType), totals.bytesReceived.get() / 1024);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static final class LeanSessionStats {
+        private final DevTools devTools;
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private final AtomicLong bytesReceived = new AtomicLong();
+        private final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+
+        private LeanSessionStats(DevTools devTools) {
+            this.devTools = devTools;
+        }
+
+        private void recordBlocked(String type) {
+            blockedRequests.incrementAndGet();
+            blockedByType.computeIfAbsent(type, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.enums.UserType;
+import com.medsky.automation.managers.SmartCredentialsManager;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the expensive suite bootstrap work (browser sessions, credentials, driver binaries) concurrently
+ * at suite start and keeps the ready sessions for the first tests on each thread.
+ */
+public final class SessionWarmer {
+    private static final Logger logger = LoggerFactory.getLogger(SessionWarmer.class);
+
+    private static final Queue<WebDriver> warmSessions = new ConcurrentLinkedQueue<>();
+    private static volatile String warmBrowserName;
+
+    private SessionWarmer() {}
+
+    public static void warmUp(String browserName, int sessionCount) {
+        long startTime = System.nanoTime();
+        List<Callable<Long>> tasks = new ArrayList<>();
+
+        if (!ConfigReader.getRunMode().equalsIgnoreCase("remote")) {
+            tasks.add(timed("driver binary", () -> DriverFactory.setupDriverBinary(browserName)));
+        }
+
+        for (UserType userType : UserType.values()) {
+            tasks.add(timed("credentials " + userType, () -> SmartCredentialsManager.hasCredentials(userType)));
+        }
+
+        for (int i = 0; i < sessionCount; i++) {
+            tasks.add(timed("browser session", () -> {
+                WebDriver driver = DriverFactory.initDriver(browserName);
+                if (ConfigReader.isDriverPoolEnabled()) {
+                    DriverPool.offer(browserName, driver);
+                } else {
+                    warmSessions.offer(driver);
+                }
+            }));
+        }
+
+        warmBrowserName = browserName;
+        logger.info("Warming up suite: {} browser session(s) plus {} bootstrap task(s)", sessionCount, tasks.size() - sessionCount);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, tasks.size()));
+        long serialNanos = 0;
+        try {
+            List<Future<Long>> futures = executor.invokeAll(tasks, ConfigReader.getWarmUpTimeoutSeconds(), TimeUnit.SECONDS);
+            for (Future<Long> future : futures) {
+                try {
+                    serialNanos += future.get();
+                } catch (Exception e) {
+                    logger.warn("Warm-up task did not complete: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Suite warm-up interrupted", e);
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long serialMillis = TimeUnit.NANOSECONDS.toMillis(serialNanos);
+        logger.info("Suite bootstrap took {} ms (serial equivalent {} ms, saved {} ms)",
+                wallMillis, serialMillis, Math.max(0, serialMillis - wallMillis));
+    }
+
+    /**
+     * Returns a pre-created session for the given browser, or null when none is left.
+     */
+    public static WebDriver takeWarmSession(String browserName) {
+        if (warmBrowserName == null || !warmBrowserName.equalsIgnoreCase(browserName)) {
+            return null;
+        }
+        return warmSessions.poll();
+    }
+
+    /**
+     * Quits one unused warm session of the browser so its Grid slot frees up. Returns {@code false} when none is left.
+     */
+    public static boolean discardWarmSession(String browserName) {
+        WebDriver driver = takeWarmSession(browserName);
+        if (driver == null) {
+            return false;
+        }
+        try {
+            DriverFactory.quitDriver(driver);
+        } catch (Exception e) {
+            logger.debug("Unable to quit discarded warm session: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    public static void shutdown() {
+        WebDriver driver;
+        while ((driver = warmSessions.poll()) != null) {
+            try {
+                DriverFactory.quitDriver(driver);
+            } catch (Exception e) {
+                logger.debug("Unable to quit unused warm session: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static Callable<Long> timed(String taskName, Runnable task) {
+        return () -> {
+            long taskStart = System.nanoTime();
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.warn("Warm-up task '{}' failed: {}", taskName, e.getMessage());
+            }
+            long elapsed = System.nanoTime() - taskStart;
+            logger.debug("Warm-up task '{}' finished in {} ms", taskName, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return elapsed;
+        };
+    }
+}
@@ -0,0 +1,210 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the WebDriver command each test thread is currently blocked on and interrupts it once it runs
+ * past {@code watchdog.commandTimeoutSeconds}. Sessions whose commands were aborted, or which fail a
+ * liveness probe, are reaped in the background and replaced before the next test.
+ */
+public final class SessionWatchdog implements WebDriverListener {
+    private static final Logger logger = LoggerFactory.getLogger(SessionWatchdog.class);
+    private static final SessionWatchdog INSTANCE = new SessionWatchdog();
+
+    private static final Map<Thread, InFlightCommand> inFlightCommands = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> suspectSessions = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final ThreadLocal<Integer> callDepth = ThreadLocal.withInitial(() -> 0);
+
+    private static final AtomicLong abortedCommands = new AtomicLong();
+    private static final AtomicLong reapedSessions = new AtomicLong();
+    private static final AtomicLong recoveredMillis = new AtomicLong();
+
+    private static final ExecutorService probeExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "session-watchdog-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static ScheduledExecutorService scanner;
+
+    private SessionWatchdog() {}
+
+    public static WebDriverListener getListener() {
+        startScanner();
+        return INSTANCE;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        int depth = callDepth.get();
+        callDepth.set(depth + 1);
+        if (depth == 0) {
+            inFlightCommands.put(Thread.currentThread(),
+                    new InFlightCommand(DriverManager.getDriver(), method.getName(), System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finishCall();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finishCall();
+    }
+
+    /**
+     * Checks that the session still answers within {@code watchdog.probeTimeoutSeconds}. Meant for sessions that
+     * sat idle (pooled or warmed); freshly created ones don't need the extra round trip.
+     */
+    public static boolean isAlive(WebDriver driver) {
+        if (suspectSessions.contains(driver)) {
+            return false;
+        }
+
+        Future<String> probe = probeExecutor.submit(driver::getWindowHandle);
+        try {
+            probe.get(ConfigReader.getWatchdogProbeTimeoutSeconds(), TimeUnit.SECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            probe.cancel(true);
+            logger.debug("Liveness probe failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public static boolean isSuspect(WebDriver driver) {
+        return suspectSessions.contains(driver);
+    }
+
+    /**
+     * Quits a dead session in the background; the caller is free to replace it immediately.
+     */
+    public static void reap(WebDriver driver) {
+        suspectSessions.remove(driver);
+        reapedSessions.incrementAndGet();
+        probeExecutor.execute(() -> {
+            try {
+                DriverFactory.quitDriver(driver);
+            } catch (Exception e) {
+                logger.debug("Unable to quit reaped session: {}", e.getMessage());
+            }
+        });
+    }
+
+    public static synchronized void shutdown() {
+        if (scanner != null) {
+            scanner.shutdownNow();
+            scanner = null;
+        }
+
+        if (abortedCommands.get() > 0 || reapedSessions.get() > 0) {
+            logger.info("Session watchdog - aborted commands: {}, reaped sessions: {}, wall time recovered: {} s",
+                    abortedCommands.get(), reapedSessions.get(), TimeUnit.MILLISECONDS.toSeconds(recoveredMillis.get()));
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private static void finishCall() {
+        int depth = callDepth.get() - 1;
+        callDepth.set(Math.max(depth, 0));
+        if (depth > 0) {
+            return;
+        }
+
+        InFlightCommand command = inFlightCommands.remove(Thread.currentThread());
+        if (command == null) {
+            return;
+        }
+        boolean aborted;
+        synchronized (command) {
+            command.finished = true;
+            aborted = command.aborted;
+        }
+        if (aborted) {
+            // Clear the interrupt we raised, whether or not the command noticed it, so the thread's next call starts clean
+            Thread.interrupted();
+        }
+    }
+
+    private static synchronized void startScanner() {
+        if (scanner != null) {
+            return;
+        }
+
+        scanner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scanner.scheduleWithFixedDelay(SessionWatchdog::abortHungCommands, 1, 1, TimeUnit.SECONDS);
+    }
+
+    private static void abortHungCommands() {
+        long budgetNanos = TimeUnit.SECONDS.toNanos(ConfigReader.getWatchdogCommandTimeoutSeconds());
+        long now = System.nanoTime();
+
+        inFlightCommands.forEach((thread, command) -> {
+            long elapsedNanos = now - command.startedAt;
+            if (command.aborted || elapsedNanos < budgetNanos) {
+                return;
+            }
+
+            // Interrupt under the command's lock so the thread can't finish the call in between and keep the flag
+            synchronized (command) {
+                if (command.finished) {
+                    return;
+                }
+                command.aborted = true;
+                logger.warn("Aborting hung '{}' command on thread: {} after {} s", command.methodName, thread.getName(),
+                        TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+                thread.interrupt();
+            }
+
+            abortedCommands.incrementAndGet();
+            if (command.driver != null) {
+                suspectSessions.add(command.driver);
+            }
+
+            // Without the watchdog the thread would have waited for the Grid to time the session out
+            long gridTimeoutMillis = TimeUnit.SECONDS.toMillis(ConfigReader.getWatchdogGridTimeoutSeconds());
+            recoveredMillis.addAndGet(Math.max(0, gridTimeoutMillis - TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        });
+    }
+
+    private static final class InFlightCommand {
+        private final WebDriver driver;
+        private final String methodName;
+        private final long startedAt;
+        private volatile boolean aborted;
+        private boolean finished;
+
+        private InFlightCommand(WebDriver driver, String methodName, long startedAt) {
+            this.driver = driver;
+            this.methodName = methodName;
+            this.startedAt = startedAt;
+        }
+    }
+}
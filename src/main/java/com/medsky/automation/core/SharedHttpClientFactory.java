@@ -0,0 +1,171 @@
+package com.medsky.automation.core;
+
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates every {@link RemoteWebDriver} for a Grid through one keep-alive HTTP client, so parallel sessions
+ * reuse pooled connections (and the client's worker threads) instead of opening their own per session.
+ */
+public final class SharedHttpClientFactory {
+    private static final Logger logger = LoggerFactory.getLogger(SharedHttpClientFactory.class);
+
+    private static final Map<URI, SharedHttpClient> clients = new ConcurrentHashMap<>();
+    private static final AtomicLong sessionsCreated = new AtomicLong();
+    // W3C executeAsyncScript endpoint, /session/{id}/execute/async
+    private static final String ASYNC_SCRIPT_PATH = "/execute/async";
+
+    private SharedHttpClientFactory() {}
+
+    public static RemoteWebDriver createDriver(URL gridUrl, Capabilities capabilities) {
+        SharedHttpClient client = clients.computeIfAbsent(toUri(gridUrl), uri -> createClient(gridUrl));
+        sessionsCreated.incrementAndGet();
+
+        ClientConfig config = ClientConfig.defaultConfig().baseUrl(gridUrl);
+        return new RemoteWebDriver(new HttpCommandExecutor(Map.of(), config, clientConfig -> client), capabilities);
+    }
+
+    public static void shutdown() {
+        for (SharedHttpClient client : new ArrayList<>(clients.values())) {
+            client.logStats();
+            client.delegate.close();
+        }
+        clients.clear();
+    }
+
+    // --- Helper Methods ---
+
+    private static SharedHttpClient createClient(URL gridUrl) {
+        ClientConfig config = ClientConfig.defaultConfig()
+                .baseUrl(gridUrl)
+                .connectionTimeout(Duration.ofSeconds(ConfigReader.getHttpClientConnectTimeoutSeconds()))
+                .readTimeout(Duration.ofSeconds(ConfigReader.getHttpClientReadTimeoutSeconds()));
+        int maxConnections = ConfigReader.getHttpClientMaxConnections();
+
+        logger.info("Creating shared HTTP client for: {} (max connections: {}, connect timeout: {}, read timeout: {})",
+                gridUrl, maxConnections, config.connectionTimeout(), config.readTimeout());
+        return new SharedHttpClient(HttpClient.Factory.createDefault().createClient(config), maxConnections);
+    }
+
+    private static URI toUri(URL gridUrl) {
+        try {
+            return gridUrl.toURI();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Invalid Remote URL: " + gridUrl, e);
+        }
+    }
+
+    /**
+     * Caps concurrent requests at {@code httpClient.maxConnections} (a keep-alive HTTP/1.1 pool never opens more
+     * connections than requests in flight) and ignores the {@code close()} each session issues on quit.
+     * <p>
+     * {@code executeAsyncScript} calls are exempt from the cap: observer and network-idle waits hold their request
+     * open for up to the wait timeout, and queuing every other session's commands behind them would turn one slow
+     * page into a suite-wide stall. Each such wait uses a connection of its own on top of the cap.
+     */
+    private static final class SharedHttpClient implements HttpClient {
+        private final HttpClient delegate;
+        private final int maxConnections;
+        private final Semaphore permits;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong longRunningRequests = new AtomicLong();
+        private final AtomicLong queuedRequests = new AtomicLong();
+        private final AtomicLong queuedNanos = new AtomicLong();
+
+        private SharedHttpClient(HttpClient delegate, int maxConnections) {
+            this.delegate = delegate;
+            this.maxConnections = maxConnections;
+            this.permits = new Semaphore(maxConnections, true);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) throws UncheckedIOException {
+            if (isLongRunning(request)) {
+                longRunningRequests.incrementAndGet();
+                return delegate.execute(request);
+            }
+
+            acquirePermit();
+            int current = inFlight.incrementAndGet();
+            peakInFlight.accumulateAndGet(current, Math::max);
+            requests.incrementAndGet();
+            try {
+                return delegate.execute(request);
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // Sessions close their client on quit; the shared one stays open until shutdown()
+        }
+
+        private void acquirePermit() {
+            if (permits.tryAcquire()) {
+                return;
+            }
+
+            queuedRequests.incrementAndGet();
+            long waitStart = System.nanoTime();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted waiting for a Grid connection"));
+            } finally {
+                queuedNanos.addAndGet(System.nanoTime() - waitStart);
+            }
+        }
+
+        private static boolean isLongRunning(HttpRequest request) {
+            return request.getUri().endsWith(ASYNC_SCRIPT_PATH);
+        }
+
+        private void logStats() {
+            long requestCount = requests.get();
+            if (requestCount == 0) {
+                return;
+            }
+
+            // The underlying client exposes no connection counts, so only request-level figures are reported
+            logger.info("Shared HTTP client - sessions: {}, requests: {}, peak in-flight: {}/{} ({}% utilization), " +
+                            "queued requests: {} ({} ms waiting), uncapped async script requests: {}",
+                    sessionsCreated.get(), requestCount, peakInFlight.get(), maxConnections,
+                    100 * peakInFlight.get() / maxConnections, queuedRequests.get(),
+                    TimeUnit.NANOSECONDS.toMillis(queuedNanos.get()), longRunningRequests.get());
+        }
+    }
+}
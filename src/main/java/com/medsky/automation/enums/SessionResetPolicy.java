@@ -0,0 +1,31 @@
+package com.medsky.automation.enums;
+
+public enum SessionResetPolicy {
+    FULL("full"),
+    COOKIES("cookies"),
+    NONE("none");
+
+    private final String value;
+
+    SessionResetPolicy(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static SessionResetPolicy fromValue(String value) {
+        for (SessionResetPolicy policy : values()) {
+            if (policy.value.equalsIgnoreCase(value.trim())) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported session reset policy: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,134 @@
+package com.medsky.automation.listeners;
+
+import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.utils.TestDurationHistory;
+import com.medsky.automation.utils.TestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders each {@code <test>} longest-processing-time first from recorded durations, so the slowest tests start
+ * early and the threads finish together instead of one long test running alone at the end. Declared priorities
+ * still come first. Logs predicted (LPT and default order) against actual makespan per {@code <test>}.
+ */
+public class DurationOrderInterceptor implements IMethodInterceptor, ITestListener, ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(DurationOrderInterceptor.class);
+
+    private final Map<String, String> predictions = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.isTestOrderingEnabled() || methods.size() < 2) {
+            return methods;
+        }
+
+        long defaultMillis = TestDurationHistory.getDefaultPrediction();
+        Map<IMethodInstance, Long> predicted = new ConcurrentHashMap<>();
+        int unknown = 0;
+        for (IMethodInstance method : methods) {
+            Long millis = TestDurationHistory.predict(getMethodIdentifier(method.getMethod()));
+            if (millis == null) {
+                unknown++;
+            }
+            predicted.put(method, millis == null ? defaultMillis : millis);
+        }
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingInt((IMethodInstance method) -> method.getMethod().getPriority())
+                .thenComparing(predicted::get, Comparator.reverseOrder()));
+
+        int threads = getThreadCount(context);
+        predictions.put(context.getName(), String.format(
+                "threads: %d, methods: %d (%d without history), predicted makespan: %.1f s (default order: %.1f s)",
+                threads, methods.size(), unknown, makespan(ordered, predicted, threads) / 1000.0,
+                makespan(methods, predicted, threads) / 1000.0));
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // Skips without a start (failed dependency or configuration) say nothing about the test's duration, and an
+        // attempt that gets retried isn't the final one; only the final attempt is recorded
+        if (!result.wasRetried() && result.getThrowable() != null && result.getEndMillis() > result.getStartMillis()) {
+            record(result);
+        }
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        String prediction = predictions.remove(context.getName());
+        if (prediction != null) {
+            long actualMillis = context.getEndDate().getTime() - context.getStartDate().getTime();
+            logger.info("Test ordering [{}] - {}, actual: {} s", context.getName(), prediction,
+                    String.format("%.1f", actualMillis / 1000.0));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (ConfigReader.isTestOrderingEnabled()) {
+            TestDurationHistory.save();
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void record(ITestResult result) {
+        if (ConfigReader.isTestOrderingEnabled()) {
+            TestDurationHistory.record(TestUtils.getTestIdentifier(result), result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    // Same shape as TestUtils.getTestIdentifier, minus the parameters a method instance doesn't have yet
+    private static String getMethodIdentifier(ITestNGMethod method) {
+        return method.getTestClass().getName() + "." + method.getMethodName();
+    }
+
+    private static int getThreadCount(ITestContext context) {
+        boolean parallelMethods = context.getCurrentXmlTest().getParallel() == XmlSuite.ParallelMode.METHODS;
+        return parallelMethods ? Math.max(1, context.getCurrentXmlTest().getThreadCount()) : 1;
+    }
+
+    /**
+     * Finish time of the last thread when each method, in order, goes to the thread that frees up first.
+     */
+    private static long makespan(List<IMethodInstance> order, Map<IMethodInstance, Long> predicted, int threads) {
+        PriorityQueue<Long> threadLoads = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            threadLoads.add(0L);
+        }
+        long makespan = 0;
+        for (IMethodInstance method : order) {
+            long finish = threadLoads.poll() + predicted.get(method);
+            makespan = Math.max(makespan, finish);
+            threadLoads.add(finish);
+        }
+        return makespan;
+    }
+}
@@ -0,0 +1,92 @@
+package com.medsky.automation.listeners;
+
+import com.medsky.automation.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutionListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs the numbers needed to compare execution modes: throughput, peak platform threads and peak heap. Virtual
+ * threads themselves come from {@link VirtualThreadExecutorFactory}, which the launcher installs.
+ */
+public class ExecutionModeListener implements IExecutionListener, ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionModeListener.class);
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakHeapBytes = new AtomicLong();
+    private final AtomicLong testsRun = new AtomicLong();
+
+    private ScheduledExecutorService heapSampler;
+    private String executionMode;
+    private long startedAt;
+
+    @Override
+    public void onExecutionStart() {
+        executionMode = ConfigReader.getExecutionMode();
+        if (ConfigReader.isVirtualThreadMode() && !VirtualThreadExecutorFactory.isSupported()) {
+            executionMode = "platform";
+        }
+        logger.info("Execution mode: {}", executionMode);
+
+        threadBean.resetPeakThreadCount();
+        heapSampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "execution-mode-heap-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heapSampler.scheduleAtFixedRate(this::sampleHeap, 0, 500, TimeUnit.MILLISECONDS);
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        for (ISuiteResult result : suite.getResults().values()) {
+            ITestContext context = result.getTestContext();
+            testsRun.addAndGet(context.getPassedTests().size() + context.getFailedTests().size()
+                    + context.getSkippedTests().size());
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        if (heapSampler != null) {
+            heapSampler.shutdownNow();
+        }
+        sampleHeap();
+
+        // The factory is installed by the launcher (-threadpoolfactoryclass), not by this listener
+        if (ConfigReader.isVirtualThreadMode() && !VirtualThreadExecutorFactory.isInUse()) {
+            logger.warn("executionMode=virtual but TestNG never used VirtualThreadExecutorFactory; run with " +
+                    "-Pvirtual-threads or pass -threadpoolfactoryclass {} to TestNG",
+                    VirtualThreadExecutorFactory.class.getName());
+            executionMode = "platform";
+        }
+
+        double testsPerMinute = wallMillis == 0 ? 0 : testsRun.get() * 60_000.0 / wallMillis;
+        logger.info("Execution mode {} - tests: {}, wall time: {} s, throughput: {} tests/min, " +
+                        "peak platform threads: {}, peak heap: {} MB",
+                executionMode, testsRun.get(), TimeUnit.MILLISECONDS.toSeconds(wallMillis),
+                String.format("%.1f", testsPerMinute), threadBean.getPeakThreadCount(),
+                peakHeapBytes.get() / (1024 * 1024));
+    }
+
+    // --- Helper Methods ---
+
+    private void sampleHeap() {
+        peakHeapBytes.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+}
@@ -1,58 +1,70 @@
 package com.medsky.automation.listeners;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
-import com.aventstack.extentreports.MediaEntityBuilder;
 import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.markuputils.ExtentColor;
-import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.core.CommandLatencyListener;
 import com.medsky.automation.reporters.ExtentManager;
+import com.medsky.automation.reporters.ReportEvent;
+import com.medsky.automation.reporters.ReportPipeline;
+import com.medsky.automation.utils.FileHelper;
+import com.medsky.automation.utils.LatencyHistogram;
 import com.medsky.automation.utils.RetryProvider;
 import com.medsky.automation.utils.ScreenshotUtils;
 import com.medsky.automation.utils.TestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
 import java.io.File;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
-public class ExtentTestListener implements ITestListener {
+/**
+ * Turns TestNG callbacks into {@link ReportEvent}s for the {@link ReportPipeline}; with {@code report.async}
+ * on, no callback waits for the report to be written.
+ */
+public class ExtentTestListener implements ITestListener, ISuiteListener {
     private static final Logger logger = LoggerFactory.getLogger(ExtentTestListener.class);
-    private static final ExtentReports extentReports = ExtentManager.getExtentReports();
-    private static final ThreadLocal<ExtentTest> test = new ThreadLocal<>();
-    private static final Map<String, ExtentTest> testMap = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> test = new ThreadLocal<>();
+    private static final Set<String> testMap = ConcurrentHashMap.newKeySet();
+    private static final Map<String, LatencyHistogram> callbackLatencies = new ConcurrentHashMap<>();
 
     private static final String TEST_NAME_SEPARATOR = ".";
+    private static final String MEDIA_DIR = "media";
 
     @Override
     public void onTestStart(ITestResult result) {
+        long start = System.nanoTime();
         String testIdentifier = TestUtils.getTestIdentifier(result);
+        test.set(testIdentifier);
 
         // If testMap has the key, it means this is a RETRY of a previously started test
-        if (testMap.containsKey(testIdentifier)) {
-            test.set(testMap.get(testIdentifier));
+        if (testMap.contains(testIdentifier)) {
             int attemptNumber = RetryProvider.getRetryCount(testIdentifier) + 1;
             logger.info("Retrying test (Attempt #{}): {}", attemptNumber, getCompleteTestName(result));
         } else {
             // First time execution
-            ExtentTest extentTest = createNewExtentTest(result);
-            testMap.put(testIdentifier, extentTest);
-            test.set(extentTest);
+            testMap.add(testIdentifier);
+            ReportPipeline.publish(ReportEvent.testStarted(testIdentifier, result.getTestClass().getName(),
+                    result.getMethod().getMethodName(), result.getMethod().getMethodName(),
+                    result.getTestClass().getRealClass().getSimpleName()));
             logger.info("Started new test: {}", getCompleteTestName(result));
         }
+        recordCallback("onTestStart", start);
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        long start = System.nanoTime();
         String testIdentifier = TestUtils.getTestIdentifier(result);
-        ExtentTest extentTest = getExtentTest(testIdentifier);
-
-        if (extentTest == null) {
+        if (!isStarted(testIdentifier)) {
             return;
         }
 
@@ -60,24 +72,23 @@ public class ExtentTestListener implements ITestListener {
         int totalAttempts = retriesMade + 1;
 
         if (retriesMade > 0) {
-            extentTest.log(Status.PASS, MarkupHelper.createLabel(
+            ReportPipeline.publish(ReportEvent.label(testIdentifier, Status.PASS,
                     "Test PASSED on attempt #" + totalAttempts, ExtentColor.GREEN));
             logger.info("Test PASSED on attempt #{} - {}", totalAttempts, getCompleteTestName(result));
         } else {
-            extentTest.log(Status.PASS, "Test Passed");
+            ReportPipeline.publish(ReportEvent.log(testIdentifier, Status.PASS, "Test Passed"));
             logger.info("Test PASSED - {}", getCompleteTestName(result));
         }
 
         cleanupTest(testIdentifier);
-
+        recordCallback("onTestSuccess", start);
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        long start = System.nanoTime();
         String testIdentifier = TestUtils.getTestIdentifier(result);
-        ExtentTest extentTest = getExtentTest(testIdentifier);
-
-        if(extentTest == null) {
+        if (!isStarted(testIdentifier)) {
             return;
         }
 
@@ -85,27 +96,27 @@ public class ExtentTestListener implements ITestListener {
         int totalAttempts = retriesMade + 1;
 
         if (retriesMade > 0) {
-            extentTest.log(Status.FAIL, MarkupHelper.createLabel(
+            ReportPipeline.publish(ReportEvent.label(testIdentifier, Status.FAIL,
                     "Test FAILED after " + totalAttempts + " attempts", ExtentColor.RED));
             logger.error("Test FAILED after {} attempts - {}", totalAttempts, getCompleteTestName(result));
         } else {
-            extentTest.fail("Test Failed");
+            ReportPipeline.publish(ReportEvent.log(testIdentifier, Status.FAIL, "Test Failed"));
             logger.error("Test FAILED - {}", getCompleteTestName(result));
         }
 
         if (result.getThrowable() != null) {
-            extentTest.fail(result.getThrowable());
+            ReportPipeline.publish(ReportEvent.throwable(testIdentifier, Status.FAIL, result.getThrowable()));
         }
 
-        attachScreenshotIfAvailable(extentTest, result.getName());
+        attachScreenshotIfAvailable(testIdentifier, result.getName());
+        recordCallback("onTestFailure", start);
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
+        long start = System.nanoTime();
         String testIdentifier = TestUtils.getTestIdentifier(result);
-        ExtentTest extentTest = getExtentTest(testIdentifier);
-
-        if (extentTest == null) {
+        if (!isStarted(testIdentifier)) {
             return;
         }
 
@@ -118,87 +129,158 @@ public class ExtentTestListener implements ITestListener {
         if (isRetryAttempt) {
             logger.warn("Test Attempt #{} Failed. Retrying... - {}", currentRetryCount, getCompleteTestName(result));
 
-            extentTest.log(Status.WARNING, MarkupHelper.createLabel(
+            ReportPipeline.publish(ReportEvent.label(testIdentifier, Status.WARNING,
                     "Attempt #" + currentRetryCount + " FAILED - Retrying...", ExtentColor.ORANGE));
 
             if (result.getThrowable() != null) {
-                extentTest.warning(result.getThrowable());
+                ReportPipeline.publish(ReportEvent.throwable(testIdentifier, Status.WARNING, result.getThrowable()));
             }
 
-            attachScreenshotIfAvailable(extentTest, result.getName());
+            attachScreenshotIfAvailable(testIdentifier, result.getName());
         } else {
             logger.warn("Test SKIPPED - {}", getCompleteTestName(result));
-            extentTest.log(Status.SKIP, MarkupHelper.createLabel("Test SKIPPED", ExtentColor.ORANGE));
+            ReportPipeline.publish(ReportEvent.label(testIdentifier, Status.SKIP, "Test SKIPPED", ExtentColor.ORANGE));
 
             if (result.getThrowable() != null) {
-                extentTest.skip(result.getThrowable());
+                ReportPipeline.publish(ReportEvent.throwable(testIdentifier, Status.SKIP, result.getThrowable()));
                 cleanupTest(testIdentifier);
             }
         }
+        recordCallback("onTestSkipped", start);
     }
 
     @Override
     public void onFinish(ITestContext context) {
         if (!testMap.isEmpty()) {
             logger.warn("Cleaning up {} orphaned test entries in onFinish.", testMap.size());
-            testMap.clear();
+            // Close them in the pipeline too, or their report entries stay referenced for the rest of the run
+            for (String testIdentifier : testMap) {
+                testMap.remove(testIdentifier);
+                ReportPipeline.publish(ReportEvent.testFinished(testIdentifier));
+                RetryProvider.removeRetryCount(testIdentifier);
+            }
         }
 
-        extentReports.flush();
+        ReportPipeline.requestFlush();
         test.remove();
 
-        logger.debug("ExtentReports flushed successfully");
-    }
-
-    // --- Helper Methods ---
-
-    private ExtentTest createNewExtentTest(ITestResult result) {
-        String methodName = result.getMethod().getMethodName();
-        String className = result.getTestClass().getRealClass().getSimpleName();
+        if (ConfigReader.isCommandLatencyEnabled()) {
+            CommandLatencyListener.writeReport(new File(ExtentManager.getReportPath()).getParentFile());
+        }
 
-        ExtentTest extentTest = extentReports.createTest(methodName);
-        extentTest.assignCategory(className);
+        logger.debug("ExtentReports flush requested");
+    }
 
-        return extentTest;
+    @Override
+    public void onFinish(ISuite suite) {
+        ReportPipeline.drain();
+        logCallbackLatencies();
     }
 
+    // --- Helper Methods ---
+
     private String getCompleteTestName(ITestResult result) {
         return result.getTestClass().getRealClass().getSimpleName()
                 + TEST_NAME_SEPARATOR
                 + result.getName();
     }
 
-    private ExtentTest getExtentTest(String testIdentifier) {
-        ExtentTest extentTest = test.get();
-
-        if (extentTest == null) {
+    private boolean isStarted(String testIdentifier) {
+        if (test.get() == null) {
             logger.error("ExtentTest is null for test: {}. This indicates onTestStart was not called properly.",
                     testIdentifier);
+            return false;
         }
-
-        return extentTest;
+        return true;
     }
 
     private void cleanupTest(String testIdentifier) {
         testMap.remove(testIdentifier);
+        ReportPipeline.publish(ReportEvent.testFinished(testIdentifier));
         RetryProvider.removeRetryCount(testIdentifier);
         test.remove();
         logger.debug("Cleaned up resources for test: {}", testIdentifier);
     }
 
-    private void attachScreenshotIfAvailable(ExtentTest extentTest, String testName) {
+    private void attachScreenshotIfAvailable(String testIdentifier, String testName) {
+        if (ConfigReader.isExternalReportMedia()) {
+            attachScreenshotAsFile(testIdentifier, testName);
+            return;
+        }
+
         try {
             // This now returns the Base64 string
             String base64Data = ScreenshotUtils.takeScreenshotForExtentReport(testName);
 
             if (!base64Data.isEmpty()) {
                 // Use MediaEntityBuilder for the most robust attachment
-                extentTest.fail("Failure Screenshot",
-                        MediaEntityBuilder.createScreenCaptureFromBase64String(base64Data).build());
+                ReportPipeline.publish(ReportEvent.screenshot(testIdentifier, Status.FAIL, "Failure Screenshot", base64Data));
+            }
+        } catch (Exception e) {
+            logger.error("Failed to attach screenshot for test: {}", testName, e);
+        }
+    }
+
+    private void attachScreenshotAsFile(String testIdentifier, String testName) {
+        try {
+            File reportDirectory = new File(ExtentManager.getReportPath()).getParentFile();
+            int thumbnailWidth = ConfigReader.getReportThumbnailWidth();
+            File screenshot = ScreenshotUtils.takeScreenshotAsMedia(testName,
+                    new File(reportDirectory, MEDIA_DIR), thumbnailWidth);
+            String screenshotPath = FileHelper.getRelativePath(reportDirectory, screenshot);
+
+            if (thumbnailWidth > 0) {
+                String thumbnailPath = FileHelper.getRelativePath(reportDirectory,
+                        ScreenshotUtils.getThumbnailFile(screenshot));
+                ReportPipeline.publish(ReportEvent.log(testIdentifier, Status.FAIL,
+                        "Failure Screenshot<br><a href='" + escapeHtmlAttribute(screenshotPath) + "' target='_blank'>" +
+                        "<img src='" + escapeHtmlAttribute(thumbnailPath) + "' alt='" + escapeHtmlAttribute(testName) +
+                        "'/></a>"));
+            } else {
+                ReportPipeline.publish(ReportEvent.screenshot(testIdentifier, Status.FAIL, "Failure Screenshot", screenshotPath));
             }
         } catch (Exception e) {
             logger.error("Failed to attach screenshot for test: {}", testName, e);
         }
     }
 
+    // Tests can set their own names (ITest) and media paths are built from them, so both may hold quotes or markup
+    private static String escapeHtmlAttribute(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                case '\'':
+                    escaped.append("&#39;");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private void recordCallback(String callback, long startNanos) {
+        callbackLatencies.computeIfAbsent(callback, k -> new LatencyHistogram())
+                .record((System.nanoTime() - startNanos) / 1000);
+    }
+
+    private void logCallbackLatencies() {
+        new TreeMap<>(callbackLatencies).forEach((callback, histogram) ->
+                logger.info("Report callback {} ({} mode) - calls: {}, p50: {} ms, p99: {} ms, max: {} ms",
+                        callback, ConfigReader.isAsyncReporting() ? "async" : "sync", histogram.getCount(),
+                        histogram.getPercentileMicros(50) / 1000.0, histogram.getPercentileMicros(99) / 1000.0,
+                        histogram.getMaxMicros() / 1000.0));
+    }
 }
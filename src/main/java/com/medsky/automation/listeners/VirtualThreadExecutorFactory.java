@@ -0,0 +1,62 @@
+package com.medsky.automation.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs TestNG workers on virtual threads. The pool keeps TestNG's sizing (thread-count) and queue, only the
+ * threads themselves are virtual. Virtual threads are created reflectively so the project still builds on Java 11;
+ * on older runtimes the factory falls back to TestNG's platform threads.
+ * <p>
+ * Installed through TestNG's {@code -threadpoolfactoryclass} option, which the {@code virtual-threads} Maven
+ * profile passes.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorServiceFactory {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadExecutorFactory.class);
+
+    private static volatile boolean inUse;
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
+        if (virtualThreadFactory == null) {
+            return new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, unit, workQueue, threadFactory);
+        }
+
+        inUse = true;
+        logger.debug("Creating virtual thread pool with {} worker(s)", maxPoolSize);
+        return new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, unit, workQueue, virtualThreadFactory);
+    }
+
+    public static boolean isSupported() {
+        return createVirtualThreadFactory() != null;
+    }
+
+    /**
+     * Whether TestNG has created a virtual thread pool through this factory in this JVM.
+     */
+    public static boolean isInUse() {
+        return inUse;
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "TestNG-virtual-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads need Java 21+, running on platform threads (java.version={})",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+}
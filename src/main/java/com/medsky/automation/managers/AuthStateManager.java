@@ -0,0 +1,141 @@
+package com.medsky.automation.managers;
+
+import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.enums.UserType;
+import com.medsky.automation.models.AuthState;
+import com.medsky.automation.models.Credentials;
+import com.medsky.automation.pages.HomePage;
+import com.medsky.automation.pages.LoginPage;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs in through the UI once per {@link UserType}, captures the resulting cookies and web storage and
+ * replays them into later sessions so tests can start authenticated without driving the login form.
+ */
+public class AuthStateManager {
+    private static final Logger logger = LoggerFactory.getLogger(AuthStateManager.class);
+
+    private static final String READ_STORAGE_SCRIPT =
+            "var storage = window[arguments[0]], result = {};" +
+            "for (var i = 0; i < storage.length; i++) { var key = storage.key(i); result[key] = storage.getItem(key); }" +
+            "return result;";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];" +
+            "for (var key in local) { window.localStorage.setItem(key, local[key]); }" +
+            "for (var key in session) { window.sessionStorage.setItem(key, session[key]); }";
+
+    private static final Map<UserType, AuthState> authStateCache = new ConcurrentHashMap<>();
+
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong fullLogins = new AtomicLong();
+    private static final AtomicLong injectionFailures = new AtomicLong();
+
+    private AuthStateManager() {
+
+    }
+
+    public static HomePage loginAs(WebDriver driver, UserType userType) {
+        Objects.requireNonNull(userType, "User type cannot be null");
+
+        if (ConfigReader.isAuthCacheEnabled()) {
+            AuthState authState = authStateCache.get(userType);
+            long ttlMillis = TimeUnit.SECONDS.toMillis(ConfigReader.getAuthCacheTtlSeconds());
+
+            if (authState != null && authState.isExpired(ttlMillis)) {
+                logger.debug("Cached auth state expired for: {}", userType);
+                authStateCache.remove(userType, authState);
+            } else if (authState != null) {
+                if (injectAuthState(driver, authState)) {
+                    cacheHits.incrementAndGet();
+                    logger.info("Started authenticated from cached state for: {}", userType);
+                    return new HomePage(driver);
+                }
+                injectionFailures.incrementAndGet();
+                logger.warn("Cached auth state rejected for: {}, falling back to UI login", userType);
+                authStateCache.remove(userType, authState);
+            }
+        }
+
+        return loginThroughUi(driver, userType);
+    }
+
+    public static void clearCache() {
+        logger.info("Clearing auth state cache");
+        authStateCache.clear();
+    }
+
+    public static void clearCache(UserType userType) {
+        Objects.requireNonNull(userType, "User type cannot be null");
+        logger.info("Clearing auth state for user type: {}", userType);
+        authStateCache.remove(userType);
+    }
+
+    public static void logStats() {
+        if (cacheHits.get() == 0 && fullLogins.get() == 0) {
+            return;
+        }
+        logger.info("Auth state cache - cache hits: {}, full UI logins: {}, injection failures: {}",
+                cacheHits.get(), fullLogins.get(), injectionFailures.get());
+    }
+
+    private static HomePage loginThroughUi(WebDriver driver, UserType userType) {
+        Credentials credentials = SmartCredentialsManager.getCredentials(userType);
+        HomePage homePage = new LoginPage(driver).login(credentials.getUsername(), credentials.getPassword());
+        fullLogins.incrementAndGet();
+
+        if (homePage != null && ConfigReader.isAuthCacheEnabled()) {
+            try {
+                authStateCache.put(userType, captureAuthState(driver, userType));
+                logger.debug("Captured auth state for: {}", userType);
+            } catch (Exception e) {
+                logger.warn("Unable to capture auth state for: {}", userType, e);
+            }
+        }
+        return homePage;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AuthState captureAuthState(WebDriver driver, UserType userType) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Map<String, String> localStorage = (Map<String, String>) js.executeScript(READ_STORAGE_SCRIPT, "localStorage");
+        Map<String, String> sessionStorage = (Map<String, String>) js.executeScript(READ_STORAGE_SCRIPT, "sessionStorage");
+
+        return new AuthState(userType, driver.getCurrentUrl(), driver.manage().getCookies(),
+                localStorage != null ? localStorage : Collections.emptyMap(),
+                sessionStorage != null ? sessionStorage : Collections.emptyMap());
+    }
+
+    private static boolean injectAuthState(WebDriver driver, AuthState authState) {
+        try {
+            // Cookies and storage can only be written for the origin currently loaded
+            String baseUrl = ConfigReader.getBaseUrl();
+            if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+                driver.get(baseUrl);
+            }
+
+            for (Cookie cookie : authState.getCookies()) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT,
+                    authState.getLocalStorage(), authState.getSessionStorage());
+
+            driver.get(authState.getLandingUrl());
+            // Apps bounce unauthenticated visitors away from the landing page
+            return driver.getCurrentUrl().equals(authState.getLandingUrl());
+        } catch (Exception e) {
+            logger.debug("Auth state injection failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.medsky.automation.models;
+
+import com.medsky.automation.enums.UserType;
+import org.openqa.selenium.Cookie;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class AuthState {
+    private final UserType userType;
+    private final String landingUrl;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long capturedAt;
+
+    public AuthState(UserType userType, String landingUrl, Set<Cookie> cookies,
+                     Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        Objects.requireNonNull(userType, "User type cannot be null");
+        Objects.requireNonNull(landingUrl, "Landing URL cannot be null");
+
+        this.userType = userType;
+        this.landingUrl = landingUrl;
+        this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+        this.localStorage = Collections.unmodifiableMap(new HashMap<>(localStorage));
+        this.sessionStorage = Collections.unmodifiableMap(new HashMap<>(sessionStorage));
+        this.capturedAt = System.currentTimeMillis();
+    }
+
+    public UserType getUserType() {
+        return userType;
+    }
+
+    public String getLandingUrl() {
+        return landingUrl;
+    }
+
+    public Set<Cookie> getCookies() {
+        return cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    public boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - capturedAt > ttlMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthState{" +
+                "userType=" + userType +
+                ", landingUrl='" + landingUrl + '\'' +
+                ", cookies=" + cookies.size() +
+                ", localStorage=" + localStorage.size() +
+                ", sessionStorage=" + sessionStorage.size() +
+                '}';
+    }
+}
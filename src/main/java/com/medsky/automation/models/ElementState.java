@@ -0,0 +1,53 @@
+package com.medsky.automation.models;
+
+import java.util.Map;
+
+public class ElementState {
+    private static final ElementState ABSENT = new ElementState(false, null, false, false);
+
+    private final boolean present;
+    private final String text;
+    private final boolean displayed;
+    private final boolean enabled;
+
+    private ElementState(boolean present, String text, boolean displayed, boolean enabled) {
+        this.present = present;
+        this.text = text;
+        this.displayed = displayed;
+        this.enabled = enabled;
+    }
+
+    public static ElementState fromScriptResult(Map<?, ?> result) {
+        if (result == null) {
+            return ABSENT;
+        }
+        return new ElementState(true, (String) result.get("text"),
+                Boolean.TRUE.equals(result.get("displayed")), Boolean.TRUE.equals(result.get("enabled")));
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState{" +
+                "present=" + present +
+                ", text='" + text + '\'' +
+                ", displayed=" + displayed +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+package com.medsky.automation.models;
+
+import java.util.Objects;
+
+public class ProductRow {
+    private final ElementState name;
+    private final ElementState price;
+    private final ElementState addToCart;
+
+    public ProductRow(ElementState name, ElementState price, ElementState addToCart) {
+        Objects.requireNonNull(name, "Name state cannot be null");
+        Objects.requireNonNull(price, "Price state cannot be null");
+        Objects.requireNonNull(addToCart, "Add to cart state cannot be null");
+
+        this.name = name;
+        this.price = price;
+        this.addToCart = addToCart;
+    }
+
+    public String getName() {
+        return name.getText();
+    }
+
+    public boolean isNameDisplayed() {
+        return name.isDisplayed();
+    }
+
+    public String getPrice() {
+        return price.getText();
+    }
+
+    public boolean isPriceDisplayed() {
+        return price.isDisplayed();
+    }
+
+    public String getAddToCartLabel() {
+        return addToCart.getText();
+    }
+
+    public boolean isAddToCartDisplayed() {
+        return addToCart.isDisplayed();
+    }
+
+    public boolean isAddToCartEnabled() {
+        return addToCart.isEnabled();
+    }
+
+    @Override
+    public String toString() {
+        return "ProductRow{" +
+                "name='" + getName() + '\'' +
+                ", price='" + getPrice() + '\'' +
+                ", addToCart='" + getAddToCartLabel() + '\'' +
+                '}';
+    }
+}
@@ -1,22 +1,81 @@
 package com.medsky.automation.pages;
 
 import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.models.ElementState;
 import com.medsky.automation.utils.WaitUtils;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.Platform;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 public class BasePage {
+    private static final String READ_ROWS_SCRIPT =
+            "var rows = document.querySelectorAll(arguments[0]), columns = arguments[1], result = [];" +
+            "function isDisplayed(el) {" +
+            "  var style = window.getComputedStyle(el);" +
+            "  return style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "}" +
+            "for (var i = 0; i < rows.length; i++) {" +
+            "  var row = {};" +
+            "  for (var name in columns) {" +
+            "    var el = rows[i].querySelector(columns[name]);" +
+            "    row[name] = el == null ? null :" +
+            "        { text: el.innerText.trim(), displayed: isDisplayed(el), enabled: !el.disabled };" +
+            "  }" +
+            "  result.push(row);" +
+            "}" +
+            "return result;";
+    private static final String FILL_FORM_SCRIPT =
+            "var fields = arguments[0], values = arguments[1];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  var el = fields[i];" +
+            "  if (el.disabled || el.readOnly) throw new Error('Field is not editable: ' + (el.name || el.id));" +
+            "  el.focus();" +
+            // The prototype's setter keeps frameworks that track the value property (React) in sync
+            "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');" +
+            "  if (descriptor && descriptor.set) { descriptor.set.call(el, values[i]); } else { el.value = values[i]; }" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "  el.blur();" +
+            "}";
+
     protected WebDriver driver;
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
     protected WaitUtils waitUtils;
+    private CachingFieldDecorator elementCache;
+    private PageWiring pageWiring;
+    private Map<WebElement, String> elementKeys;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
         waitUtils = new WaitUtils(driver);
-        PageFactory.initElements(driver, this);
+        if (ConfigReader.isLazyPageWiringEnabled()) {
+            pageWiring = PageWiring.wire(this, driver, ConfigReader.isLocatorCacheEnabled());
+        } else if (ConfigReader.isLocatorCacheEnabled()) {
+            elementCache = new CachingFieldDecorator(driver);
+            PageFactory.initElements(elementCache, this);
+        } else {
+            PageFactory.initElements(driver, this);
+        }
 
         logger.info("Page Initialized: {}", this.getClass().getSimpleName());
     }
@@ -43,6 +102,8 @@ public class BasePage {
     protected void navigateTo(String url) {
         logger.info("Navigating to URL: '{}'", url);
         driver.get(url);
+        invalidateElementCache();
+        waitForPageToSettle();
         logger.debug("Navigation completed successfully");
     }
 
@@ -55,23 +116,192 @@ public class BasePage {
 
     protected void clickElement(WebElement element) {
         logger.debug("Clicking element: {}", element);
-        waitUtils.waitForElementToBeClickable(element).click();
+        waitUtils.waitForElementToBeClickable(element, getElementKey(element)).click();
         logger.debug("Clicked element: {}", element);
     }
 
+    /**
+     * Clicks an element that loads a new page (or a new view of this one), then waits for the network to go idle
+     * when {@code networkIdle.enabled} is on.
+     */
+    protected void clickAndWaitForPage(WebElement element) {
+        clickElement(element);
+        invalidateElementCache();
+        waitForPageToSettle();
+    }
+
     protected boolean isElementDisplayed(WebElement element) {
-        try {
-            boolean displayed = waitUtils.waitForElementToBeVisible(element).isDisplayed();
-            logger.debug("Element {} is displayed: {}", element, displayed);
-            return displayed;
-        } catch (Exception e) {
-            logger.debug("Element {} is not displayed", element);
-            return false;
+        boolean displayed = waitUtils.isElementVisible(element, getElementKey(element));
+        logger.debug("Element {} is displayed: {}", element, displayed);
+        return displayed;
+    }
+
+    /**
+     * For checks where the element is expected to be absent: with adaptive waits on, stops waiting once the
+     * element is later than it has ever been, instead of after the full explicit wait.
+     */
+    protected boolean probeElementDisplayed(WebElement element) {
+        boolean displayed = waitUtils.probeElementVisible(element, getElementKey(element));
+        logger.debug("Element {} is displayed: {}", element, displayed);
+        return displayed;
+    }
+
+    /**
+     * Reads every row matching {@code rowSelector} in a single script call. {@code columns} maps a column name to
+     * a CSS selector relative to the row; the mapper receives one {@link ElementState} per column.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<T> readRows(String rowSelector, Map<String, String> columns,
+                                   Function<Map<String, ElementState>, T> rowMapper) {
+        logger.debug("Reading rows '{}' with columns: {}", rowSelector, columns.keySet());
+        List<Map<String, Map<?, ?>>> rawRows = (List<Map<String, Map<?, ?>>>)
+                ((JavascriptExecutor) driver).executeScript(READ_ROWS_SCRIPT, rowSelector, columns);
+        if (rawRows == null) {
+            return Collections.emptyList();
+        }
+
+        List<T> rows = new ArrayList<>(rawRows.size());
+        for (Map<String, Map<?, ?>> rawRow : rawRows) {
+            Map<String, ElementState> row = new HashMap<>();
+            for (String column : columns.keySet()) {
+                row.put(column, ElementState.fromScriptResult(rawRow.get(column)));
+            }
+            rows.add(rowMapper.apply(row));
         }
+        logger.debug("Read {} rows for: {}", rows.size(), rowSelector);
+        return rows;
+    }
+
+    /**
+     * Types each value into the field at the same position, then clicks {@code submitElement} if given. With
+     * composite actions on, all fields are filled in one remote call: a script that sets values and fires
+     * input/change events, or in strict mode a single W3C Actions batch of real key events. Otherwise, or if that
+     * call fails, falls back to {@link #typeText} per field. The submit click always runs on its own through
+     * {@link #clickElement}, so a failure can never trigger a second submit.
+     */
+    protected void fillForm(List<WebElement> fields, List<String> values, WebElement submitElement) {
+        if (fields.size() != values.size()) {
+            throw new IllegalArgumentException("Got " + values.size() + " values for " + fields.size() + " fields");
+        }
+
+        if (!ConfigReader.isCompositeActionsEnabled() || !fillInOneCall(fields, values)) {
+            for (int i = 0; i < fields.size(); i++) {
+                typeText(fields.get(i), values.get(i));
+            }
+        }
+        if (submitElement != null) {
+            clickAndWaitForPage(submitElement);
+        }
+    }
+
+    /**
+     * Waits until one of the elements is displayed and returns its index, or -1 if none shows up in time.
+     * Lets flows branch on whichever outcome the UI produces instead of timing out on the expected one first.
+     */
+    protected int waitForFirstVisible(WebElement... elements) {
+        ExpectedCondition<?>[] conditions = new ExpectedCondition<?>[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            conditions[i] = ExpectedConditions.visibilityOf(elements[i]);
+        }
+        return waitUtils.waitForFirst(conditions);
     }
 
     protected void refreshPage() {
         logger.info("Refreshing current page");
         driver.navigate().refresh();
+        invalidateElementCache();
+        waitForPageToSettle();
+    }
+
+    /**
+     * Stable {@code Page.field} name of a {@code @FindBy} element, used to learn its wait timeout. Elements that
+     * aren't page fields (e.g. taken from a list) have no key and keep the configured timeout.
+     */
+    protected String getElementKey(WebElement element) {
+        if (!ConfigReader.isAdaptiveWaitEnabled()) {
+            return null;
+        }
+        if (elementKeys == null) {
+            elementKeys = collectElementKeys();
+        }
+        return elementKeys.get(element);
+    }
+
+    /**
+     * Drops cached element lookups; call after an action that re-renders the page without navigating.
+     */
+    protected void invalidateElementCache() {
+        if (elementCache != null) {
+            elementCache.invalidate();
+        }
+        if (pageWiring != null) {
+            pageWiring.invalidate();
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private void waitForPageToSettle() {
+        if (ConfigReader.isNetworkIdleWaitEnabled()) {
+            waitUtils.waitForNetworkIdle();
+        }
+    }
+
+    private boolean fillInOneCall(List<WebElement> fields, List<String> values) {
+        try {
+            if (ConfigReader.isCompositeActionsStrict()) {
+                performKeyboardFill(fields, values);
+            } else {
+                ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, fields, values);
+            }
+            logger.debug("Filled {} fields in one round trip", fields.size());
+            return true;
+        } catch (WebDriverException e) {
+            // Nothing has been submitted yet, so typing the fields again is safe
+            logger.warn("Composite form fill failed, falling back to per-field typing: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void performKeyboardFill(List<WebElement> fields, List<String> values) {
+        Keys selectAllModifier = isMacPlatform() ? Keys.COMMAND : Keys.CONTROL;
+        Actions actions = new Actions(driver);
+        for (int i = 0; i < fields.size(); i++) {
+            actions.click(fields.get(i))
+                    .keyDown(selectAllModifier).sendKeys("a").keyUp(selectAllModifier)
+                    .sendKeys(Keys.BACK_SPACE)
+                    .sendKeys(values.get(i));
+        }
+        actions.perform();
+    }
+
+    private boolean isMacPlatform() {
+        if (!(driver instanceof HasCapabilities)) {
+            return false;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        Platform platform = capabilities.getPlatformName();
+        return platform != null && platform.is(Platform.MAC);
+    }
+
+    private Map<WebElement, String> collectElementKeys() {
+        Map<WebElement, String> keys = new IdentityHashMap<>();
+        for (Class<?> type = getClass(); type != BasePage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!WebElement.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    WebElement element = (WebElement) field.get(this);
+                    if (element != null) {
+                        keys.put(element, getClass().getSimpleName() + "." + field.getName());
+                    }
+                } catch (IllegalAccessException e) {
+                    logger.debug("Unable to read element field: {}", field.getName());
+                }
+            }
+        }
+        return keys;
     }
 }
@@ -0,0 +1,195 @@
+package com.medsky.automation.pages;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * PageFactory decorator whose locators remember the elements they resolved for the lifetime of one page
+ * instance. A cached element that turns out to be stale is looked up again and the call retried once;
+ * {@link #invalidate()} drops everything after navigation or a refresh.
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+    private static final Logger logger = LoggerFactory.getLogger(CachingFieldDecorator.class);
+
+    private static final AtomicLong cacheHits = new AtomicLong();
+    private static final AtomicLong cacheMisses = new AtomicLong();
+    private static final AtomicLong staleRecoveries = new AtomicLong();
+
+    private final List<CachingElementLocator> locators;
+
+    public CachingFieldDecorator(SearchContext searchContext) {
+        this(new DefaultElementLocatorFactory(searchContext), new CopyOnWriteArrayList<>());
+    }
+
+    private CachingFieldDecorator(DefaultElementLocatorFactory locatorFactory, List<CachingElementLocator> locators) {
+        super(field -> {
+            CachingElementLocator locator = new CachingElementLocator(locatorFactory.createLocator(field));
+            locators.add(locator);
+            return locator;
+        });
+        this.locators = locators;
+    }
+
+    public void invalidate() {
+        locators.forEach(CachingElementLocator::invalidate);
+    }
+
+    public static long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public static long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    public static void logStats() {
+        long lookups = cacheHits.get() + cacheMisses.get();
+        if (lookups == 0) {
+            return;
+        }
+        logger.info("Locator cache - lookups: {}, hits: {}, remote lookups: {}, stale recoveries: {}, hit ratio: {}%",
+                lookups, cacheHits.get(), cacheMisses.get(), staleRecoveries.get(),
+                String.format("%.1f", cacheHits.get() * 100.0 / lookups));
+    }
+
+    static void recordLookup(boolean hit) {
+        (hit ? cacheHits : cacheMisses).incrementAndGet();
+    }
+
+    static void recordStaleRecovery(Object locator) {
+        staleRecoveries.incrementAndGet();
+        logger.debug("Cached element went stale, locating again: {}", locator);
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return elementProxy(loader, locator, locator::findElement);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<WebElement> proxyForListLocator(ClassLoader loader, ElementLocator locator) {
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class[]{List.class}, (proxy, method, args) -> {
+            // Hand out per-index proxies so elements taken from the list also recover from staleness
+            int size = locator.findElements().size();
+            List<WebElement> elements = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int index = i;
+                elements.add(elementProxy(loader, locator, () -> locator.findElements().get(index)));
+            }
+            return invokeUnwrapped(method, elements, args);
+        });
+    }
+
+    // --- Helper Methods ---
+
+    private static WebElement elementProxy(ClassLoader loader, ElementLocator locator, Supplier<WebElement> resolver) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class[]{WebElement.class, WrapsElement.class, Locatable.class}, (proxy, method, args) -> {
+                    WebElement element;
+                    try {
+                        element = resolver.get();
+                    } catch (NoSuchElementException | IndexOutOfBoundsException e) {
+                        if ("toString".equals(method.getName())) {
+                            return "Proxy element for: " + locator;
+                        }
+                        throw e;
+                    }
+
+                    if ("getWrappedElement".equals(method.getName())) {
+                        return element;
+                    }
+
+                    try {
+                        return invokeUnwrapped(method, element, args);
+                    } catch (StaleElementReferenceException e) {
+                        ((CachingElementLocator) locator).invalidate();
+                        staleRecoveries.incrementAndGet();
+                        logger.debug("Cached element went stale, locating again: {}", locator);
+                        WebElement freshElement;
+                        try {
+                            freshElement = resolver.get();
+                        } catch (IndexOutOfBoundsException outOfRange) {
+                            // The list shrank on re-render, so there is no element to retry against
+                            throw e;
+                        }
+                        return invokeUnwrapped(method, freshElement, args);
+                    }
+                });
+    }
+
+    private static Object invokeUnwrapped(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class CachingElementLocator implements ElementLocator {
+        private final ElementLocator delegate;
+        private volatile WebElement cachedElement;
+        private volatile List<WebElement> cachedElements;
+
+        private CachingElementLocator(ElementLocator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public WebElement findElement() {
+            WebElement element = cachedElement;
+            if (element != null) {
+                cacheHits.incrementAndGet();
+                return element;
+            }
+            cacheMisses.incrementAndGet();
+            element = delegate.findElement();
+            cachedElement = element;
+            return element;
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            List<WebElement> elements = cachedElements;
+            if (elements != null) {
+                cacheHits.incrementAndGet();
+                return elements;
+            }
+            cacheMisses.incrementAndGet();
+            elements = delegate.findElements();
+            // An empty result may just mean the list hasn't rendered yet
+            if (!elements.isEmpty()) {
+                cachedElements = elements;
+            }
+            return elements;
+        }
+
+        private void invalidate() {
+            cachedElement = null;
+            cachedElements = null;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
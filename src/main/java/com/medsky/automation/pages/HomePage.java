@@ -1,5 +1,7 @@
 package com.medsky.automation.pages;
 
+import com.medsky.automation.models.ProductRow;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -7,30 +9,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 public class HomePage extends BasePage{
     private static final Logger logger = LoggerFactory.getLogger(HomePage.class);
 
+    private static final String PRODUCT_ROW_SELECTOR = "div.inventory_item";
+    private static final Map<String, String> PRODUCT_COLUMNS = Map.of(
+            "name", "div[data-test=inventory-item-name]",
+            "price", "div[data-test=inventory-item-price]",
+            "addToCart", "button.btn_inventory");
+
     @FindBy(css = "div.inventory_list")
-    private WebElement productListing;
+    WebElement productListing;
 
     @FindBy(css = "div.inventory_item")
-    private List<WebElement> products;
+    List<WebElement> products;
 
     @FindBy(css = "div[data-test=inventory-item-name]")
-    private List<WebElement> productHeadings;
+    List<WebElement> productHeadings;
 
     @FindBy(css = "div[data-test=inventory-item-price]")
-    private List<WebElement> productPrices;
+    List<WebElement> productPrices;
 
     @FindBy(css = "button.btn_inventory")
-    private List<WebElement> addToCart;
+    List<WebElement> addToCart;
 
     @FindBy(css = "div.bm-burger-button")
-    private WebElement hamburgerMenu;
+    WebElement hamburgerMenu;
 
     @FindBy(css = "#logout_sidebar_link")
-    private WebElement logoutBtn;
+    WebElement logoutBtn;
 
     public HomePage(WebDriver driver) {
         super(driver);
@@ -93,6 +102,15 @@ public class HomePage extends BasePage{
     }
 
 
+    /**
+     * Reads name, price and add-to-cart state of every product in one round trip, once the grid has rendered.
+     */
+    public List<ProductRow> getProductRows() {
+        waitUtils.waitForElementToBeVisible(By.cssSelector(PRODUCT_ROW_SELECTOR));
+        return readRows(PRODUCT_ROW_SELECTOR, PRODUCT_COLUMNS,
+                row -> new ProductRow(row.get("name"), row.get("price"), row.get("addToCart")));
+    }
+
     public boolean isHamburgerMenuDisplayed() {
         return isElementDisplayed(hamburgerMenu);
     }
@@ -107,7 +125,7 @@ public class HomePage extends BasePage{
     }
 
     public LoginPage clickLogoutBtn() {
-        clickElement(logoutBtn);
+        clickAndWaitForPage(logoutBtn);
         return new LoginPage(driver);
     }
 }
@@ -4,28 +4,30 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.Arrays;
+
 public class LoginPage extends BasePage{
 
     @FindBy(css = ".login_logo")
-    private WebElement loginLogo;
+    WebElement loginLogo;
 
     @FindBy(id = "user-name")
-    private WebElement usernameField;
+    WebElement usernameField;
 
     @FindBy(id = "password")
-    private WebElement passwordField;
+    WebElement passwordField;
 
     @FindBy(css = "input[type='submit']")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     @FindBy(css = "div.bm-burger-button")
-    private WebElement hamburgerButton;
+    WebElement hamburgerButton;
 
     @FindBy(css = "h3[data-test='error']")
-    private WebElement errorMessage;
+    WebElement errorMessage;
 
     @FindBy(css = "div.login-box")
-    private WebElement loginBox;
+    WebElement loginBox;
 
     public LoginPage(WebDriver driver) {
         super(driver);
@@ -45,20 +47,21 @@ public class LoginPage extends BasePage{
 
     public LoginPage clickLoginButton() {
         logger.debug("Clicking on login button");
-        clickElement(loginButton);
+        clickAndWaitForPage(loginButton);
         return this;
     }
 
     public HomePage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
+        logger.debug("Filling login form");
+        fillForm(Arrays.asList(usernameField, passwordField), Arrays.asList(username, password), loginButton);
 
         try {
-            if(isElementDisplayed(hamburgerButton)) {
+            // Whichever of the two outcomes renders first decides the branch
+            int outcome = waitForFirstVisible(hamburgerButton, errorMessage);
+            if(outcome == 0) {
                 logger.info("Login successful for user: {}", username);
                 return new HomePage(driver);
-            } else if(isErrorMessageDisplayed()){
+            } else if(outcome == 1){
                 logger.warn("Login failed for user: {}", username);
                 return null;
             }
@@ -0,0 +1,47 @@
+package com.medsky.automation.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the lazy elements that page wiring assigns to element fields, for one page instance.
+ */
+public final class PageElements {
+    private final SearchContext searchContext;
+    private final boolean cacheLookups;
+    private final List<PageWiring.Lookup> cachedLookups = new ArrayList<>();
+
+    PageElements(SearchContext searchContext, boolean cacheLookups) {
+        this.searchContext = searchContext;
+        this.cacheLookups = cacheLookups;
+    }
+
+    /**
+     * @param cacheLookup whether the field carries {@code @CacheLookup}; cached anyway with the locator cache on
+     */
+    public WebElement element(By by, boolean cacheLookup) {
+        return new PageWiring.LazyElement(lookup(by, cacheLookup), -1);
+    }
+
+    public List<WebElement> elements(By by, boolean cacheLookup) {
+        return new PageWiring.LazyElementList(lookup(by, cacheLookup));
+    }
+
+    List<PageWiring.Lookup> getCachedLookups() {
+        return cachedLookups;
+    }
+
+    // --- Helper Methods ---
+
+    private PageWiring.Lookup lookup(By by, boolean cacheLookup) {
+        PageWiring.Lookup lookup = new PageWiring.Lookup(searchContext, by, cacheLookups || cacheLookup);
+        if (lookup.cached) {
+            cachedLookups.add(lookup);
+        }
+        return lookup;
+    }
+}
@@ -0,0 +1,14 @@
+package com.medsky.automation.pages;
+
+/**
+ * Compile-time wiring for one page class, generated as {@code <Page>_Wiring} by
+ * {@link com.medsky.automation.pages.processor.PageWiringProcessor} and found through {@link java.util.ServiceLoader}.
+ */
+public interface PageWirer<P extends BasePage> {
+    Class<P> getPageClass();
+
+    /**
+     * Assigns every element field of the page (superclass pages included) a lazy element from {@code elements}.
+     */
+    void wire(P page, PageElements elements);
+}
@@ -0,0 +1,413 @@
+package com.medsky.automation.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Proxy-free alternative to {@code PageFactory.initElements}. Pages run the {@link PageWirer} generated for them at
+ * compile time, which assigns lazy elements that look themselves up on first use. A page without one (e.g. compiled
+ * without the processor) falls back to fields and locators worked out by reflection once per class. With lookup
+ * caching on, elements keep what they found and recover once from staleness, like {@link CachingFieldDecorator}.
+ */
+final class PageWiring {
+    private static final Logger logger = LoggerFactory.getLogger(PageWiring.class);
+
+    private static final Map<Class<?>, PageWirer<?>> generatedWirers = loadGeneratedWirers();
+    private static final ClassValue<List<Binding>> bindings = new ClassValue<>() {
+        @Override
+        protected List<Binding> computeValue(Class<?> pageClass) {
+            return createBindings(pageClass);
+        }
+    };
+
+    private final List<Lookup> cachedLookups;
+
+    private PageWiring(List<Lookup> cachedLookups) {
+        this.cachedLookups = cachedLookups;
+    }
+
+    @SuppressWarnings("unchecked")
+    static PageWiring wire(BasePage page, SearchContext searchContext, boolean cacheLookups) {
+        PageElements elements = new PageElements(searchContext, cacheLookups);
+        PageWirer<BasePage> wirer = (PageWirer<BasePage>) generatedWirers.get(page.getClass());
+        if (wirer != null) {
+            wirer.wire(page, elements);
+        } else {
+            wireReflectively(page, elements);
+        }
+        return new PageWiring(elements.getCachedLookups());
+    }
+
+    void invalidate() {
+        cachedLookups.forEach(Lookup::invalidate);
+    }
+
+    // --- Helper Methods ---
+
+    private static Map<Class<?>, PageWirer<?>> loadGeneratedWirers() {
+        Map<Class<?>, PageWirer<?>> wirers = new HashMap<>();
+        for (PageWirer<?> wirer : ServiceLoader.load(PageWirer.class, PageWiring.class.getClassLoader())) {
+            wirers.put(wirer.getPageClass(), wirer);
+        }
+        logger.debug("Loaded generated wiring for {} page classes", wirers.size());
+        return wirers;
+    }
+
+    static void wireReflectively(BasePage page, PageElements elements) {
+        for (Binding binding : bindings.get(page.getClass())) {
+            try {
+                binding.field.set(page, binding.list ? elements.elements(binding.by, binding.cacheLookup)
+                        : elements.element(binding.by, binding.cacheLookup));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Unable to wire field: " + binding.field, e);
+            }
+        }
+    }
+
+    private static List<Binding> createBindings(Class<?> pageClass) {
+        List<Binding> pageBindings = new ArrayList<>();
+        for (Class<?> type = pageClass; type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                boolean list = isElementList(field);
+                if (field.getType() != WebElement.class && !list) {
+                    continue;
+                }
+                field.setAccessible(true);
+                Annotations annotations = new Annotations(field);
+                pageBindings.add(new Binding(field, annotations.buildBy(), annotations.isLookupCached(), list));
+            }
+        }
+        return Collections.unmodifiableList(pageBindings);
+    }
+
+    // Same rule as PageFactory: a List<WebElement> is only wired when it carries a locator annotation
+    private static boolean isElementList(Field field) {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType)) {
+            return false;
+        }
+        Type elementType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+        return elementType == WebElement.class && (field.isAnnotationPresent(FindBy.class)
+                || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class));
+    }
+
+    private static final class Binding {
+        private final Field field;
+        private final By by;
+        private final boolean cacheLookup;
+        private final boolean list;
+
+        private Binding(Field field, By by, boolean cacheLookup, boolean list) {
+            this.field = field;
+            this.by = by;
+            this.cacheLookup = cacheLookup;
+            this.list = list;
+        }
+    }
+
+    static final class Lookup {
+        private final SearchContext searchContext;
+        private final By by;
+        final boolean cached;
+        private volatile WebElement cachedElement;
+        private volatile List<WebElement> cachedElements;
+
+        Lookup(SearchContext searchContext, By by, boolean cached) {
+            this.searchContext = searchContext;
+            this.by = by;
+            this.cached = cached;
+        }
+
+        private WebElement findElement() {
+            if (!cached) {
+                return searchContext.findElement(by);
+            }
+            WebElement element = cachedElement;
+            CachingFieldDecorator.recordLookup(element != null);
+            if (element == null) {
+                element = searchContext.findElement(by);
+                cachedElement = element;
+            }
+            return element;
+        }
+
+        private List<WebElement> findElements() {
+            if (!cached) {
+                return searchContext.findElements(by);
+            }
+            List<WebElement> elements = cachedElements;
+            CachingFieldDecorator.recordLookup(elements != null);
+            if (elements == null) {
+                elements = searchContext.findElements(by);
+                // An empty result may just mean the list hasn't rendered yet
+                if (!elements.isEmpty()) {
+                    cachedElements = elements;
+                }
+            }
+            return elements;
+        }
+
+        private void invalidate() {
+            cachedElement = null;
+            cachedElements = null;
+        }
+
+        @Override
+        public String toString() {
+            return by.toString();
+        }
+    }
+
+    /**
+     * One {@code @FindBy} element, or one index of a cached {@code @FindBy} list.
+     */
+    static final class LazyElement implements WebElement, WrapsElement, Locatable {
+        private final Lookup lookup;
+        private final int index;
+
+        LazyElement(Lookup lookup, int index) {
+            this.lookup = lookup;
+            this.index = index;
+        }
+
+        @Override
+        public WebElement getWrappedElement() {
+            return resolve();
+        }
+
+        @Override
+        public void click() {
+            run(WebElement::click);
+        }
+
+        @Override
+        public void submit() {
+            run(WebElement::submit);
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            run(element -> element.sendKeys(keysToSend));
+        }
+
+        @Override
+        public void clear() {
+            run(WebElement::clear);
+        }
+
+        @Override
+        public String getTagName() {
+            return call(WebElement::getTagName);
+        }
+
+        @Override
+        public String getDomProperty(String name) {
+            return call(element -> element.getDomProperty(name));
+        }
+
+        @Override
+        public String getDomAttribute(String name) {
+            return call(element -> element.getDomAttribute(name));
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public String getAttribute(String name) {
+            return call(element -> element.getAttribute(name));
+        }
+
+        @Override
+        public String getAriaRole() {
+            return call(WebElement::getAriaRole);
+        }
+
+        @Override
+        public String getAccessibleName() {
+            return call(WebElement::getAccessibleName);
+        }
+
+        @Override
+        public boolean isSelected() {
+            return call(WebElement::isSelected);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return call(WebElement::isEnabled);
+        }
+
+        @Override
+        public String getText() {
+            return call(WebElement::getText);
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return call(element -> element.findElements(by));
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return call(element -> element.findElement(by));
+        }
+
+        @Override
+        public SearchContext getShadowRoot() {
+            return call(WebElement::getShadowRoot);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return call(WebElement::isDisplayed);
+        }
+
+        @Override
+        public Point getLocation() {
+            return call(WebElement::getLocation);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return call(WebElement::getSize);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return call(WebElement::getRect);
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return call(element -> element.getCssValue(propertyName));
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+            return call(element -> element.getScreenshotAs(target));
+        }
+
+        @Override
+        public Coordinates getCoordinates() {
+            return call(element -> ((Locatable) element).getCoordinates());
+        }
+
+        @Override
+        public String toString() {
+            return "Lazy element for: " + lookup + (index < 0 ? "" : " [" + index + "]");
+        }
+
+        private WebElement resolve() {
+            return index < 0 ? lookup.findElement() : lookup.findElements().get(index);
+        }
+
+        private void run(Consumer<WebElement> action) {
+            call(element -> {
+                action.accept(element);
+                return null;
+            });
+        }
+
+        private <T> T call(Function<WebElement, T> action) {
+            try {
+                return action.apply(resolve());
+            } catch (StaleElementReferenceException e) {
+                if (!lookup.cached) {
+                    throw e;
+                }
+                lookup.invalidate();
+                CachingFieldDecorator.recordStaleRecovery(lookup);
+                WebElement freshElement;
+                try {
+                    freshElement = resolve();
+                } catch (IndexOutOfBoundsException outOfRange) {
+                    // The list shrank on re-render, so there is no element to retry against
+                    throw e;
+                }
+                return action.apply(freshElement);
+            }
+        }
+    }
+
+    /**
+     * A {@code @FindBy} list that looks its elements up on every access, or once when cached. Iteration works on
+     * one lookup, so walking the list costs a single remote call rather than one per element.
+     */
+    static final class LazyElementList extends AbstractList<WebElement> {
+        private final Lookup lookup;
+
+        LazyElementList(Lookup lookup) {
+            this.lookup = lookup;
+        }
+
+        @Override
+        public WebElement get(int index) {
+            List<WebElement> elements = lookup.findElements();
+            Objects.checkIndex(index, elements.size());
+            // Only cached lists need per-index elements that can recover from staleness
+            return lookup.cached ? new LazyElement(lookup, index) : elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return lookup.findElements().size();
+        }
+
+        @Override
+        public Iterator<WebElement> iterator() {
+            return snapshot().iterator();
+        }
+
+        @Override
+        public ListIterator<WebElement> listIterator(int index) {
+            return snapshot().listIterator(index);
+        }
+
+        @Override
+        public String toString() {
+            return "Lazy element list for: " + lookup;
+        }
+
+        private List<WebElement> snapshot() {
+            List<WebElement> elements = lookup.findElements();
+            if (!lookup.cached) {
+                return Collections.unmodifiableList(elements);
+            }
+            List<WebElement> lazyElements = new ArrayList<>(elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                lazyElements.add(new LazyElement(lookup, i));
+            }
+            return Collections.unmodifiableList(lazyElements);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.medsky.automation.pages.processor;
+
+import org.openqa.selenium.support.CacheLookup;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Page>_Wiring} class for every top-level page class extending {@code BasePage}. It assigns
+ * each {@code @FindBy}/{@code @FindBys}/{@code @FindAll} field (and, like PageFactory, each unannotated
+ * {@code WebElement} field) a lazy element built from a locator worked out here, at compile time. The wirings are
+ * registered as {@code PageWirer} services, which {@code PageWiring} loads once per JVM.
+ * <p>
+ * Generated code assigns the fields directly, so they must not be private or final; a page with such a field is
+ * reported with a warning and keeps reflective wiring.
+ */
+@SupportedAnnotationTypes("*")
+public class PageWiringProcessor extends AbstractProcessor {
+    private static final String BASE_PAGE = "com.medsky.automation.pages.BasePage";
+    private static final String PAGE_WIRER = "com.medsky.automation.pages.PageWirer";
+    private static final String PAGE_ELEMENTS = "com.medsky.automation.pages.PageElements";
+    private static final String WIRING_SUFFIX = "_Wiring";
+    private static final String BY = "org.openqa.selenium.By";
+
+    private final Set<String> generatedWirings = new LinkedHashSet<>();
+    // Whether each page seen so far got a generated wiring, so subclasses know whether they can chain to it
+    private final Map<String, Boolean> wiredPages = new HashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement basePage = processingEnv.getElementUtils().getTypeElement(BASE_PAGE);
+        if (basePage != null) {
+            for (TypeElement page : ElementFilter.typesIn(roundEnv.getRootElements())) {
+                if (isPage(page, basePage)) {
+                    wire(page, basePage);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generatedWirings.isEmpty()) {
+            writeServiceFile();
+        }
+        // Other processors may still want the same annotations
+        return false;
+    }
+
+    // --- Helper Methods ---
+
+    private boolean isPage(TypeElement type, TypeElement basePage) {
+        return type.getKind() == ElementKind.CLASS && type.getNestingKind() == NestingKind.TOP_LEVEL
+                && !type.equals(basePage)
+                && processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(basePage.asType()));
+    }
+
+    private boolean wire(TypeElement page, TypeElement basePage) {
+        String pageName = page.getQualifiedName().toString();
+        if (wiredPages.containsKey(pageName)) {
+            return wiredPages.get(pageName);
+        }
+        // Set first so a broken hierarchy can't recurse forever
+        wiredPages.put(pageName, false);
+
+        String superWiring = null;
+        TypeElement superPage = (TypeElement) ((DeclaredType) page.getSuperclass()).asElement();
+        if (!superPage.equals(basePage)) {
+            if (!canChainTo(superPage, basePage)) {
+                warn(page, "Superclass " + superPage.getQualifiedName() + " has no generated wiring; "
+                        + pageName + " keeps reflective wiring");
+                return false;
+            }
+            superWiring = getWiringName(superPage);
+        }
+
+        List<String> locators = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(page.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            boolean list = isElementList(field);
+            if (!list && !isType(field.asType(), "org.openqa.selenium.WebElement")) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)) {
+                warn(field, "Element field " + field.getSimpleName() + " is private or final; "
+                        + pageName + " keeps reflective wiring");
+                return false;
+            }
+
+            String by = buildBy(field);
+            if (by == null) {
+                return false;
+            }
+            // Locators are built once per class, as the reflective fallback does
+            locators.add(String.format("    private static final %s %sBy = %s;", BY, field.getSimpleName(), by));
+            assignments.add(String.format("        page.%s = elements.%s(%sBy, %s);", field.getSimpleName(),
+                    list ? "elements" : "element", field.getSimpleName(),
+                    field.getAnnotation(CacheLookup.class) != null));
+        }
+
+        if (!writeWiring(page, superWiring, locators, assignments)) {
+            return false;
+        }
+        wiredPages.put(pageName, true);
+        return true;
+    }
+
+    private boolean canChainTo(TypeElement superPage, TypeElement basePage) {
+        if (superPage.getNestingKind() != NestingKind.TOP_LEVEL) {
+            return false;
+        }
+        if (processingEnv.getElementUtils().getTypeElement(getWiringName(superPage)) != null) {
+            // Compiled earlier, e.g. a page from another module
+            return true;
+        }
+        return wire(superPage, basePage);
+    }
+
+    // Same rule as PageFactory: a List<WebElement> is only wired when it carries a locator annotation
+    private boolean isElementList(VariableElement field) {
+        if (!isType(processingEnv.getTypeUtils().erasure(field.asType()), "java.util.List")) {
+            return false;
+        }
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) field.asType()).getTypeArguments();
+        return typeArguments.size() == 1 && isType(typeArguments.get(0), "org.openqa.selenium.WebElement")
+                && (field.getAnnotation(FindBy.class) != null || field.getAnnotation(FindBys.class) != null
+                || field.getAnnotation(FindAll.class) != null);
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+        return element != null && processingEnv.getTypeUtils().isSameType(type, element.asType());
+    }
+
+    /**
+     * Java expression for the field's locator, mirroring {@code org.openqa.selenium.support.pagefactory.Annotations},
+     * or {@code null} after reporting an error.
+     */
+    private String buildBy(VariableElement field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        FindBys findBys = field.getAnnotation(FindBys.class);
+        FindAll findAll = field.getAnnotation(FindAll.class);
+        int annotationCount = (findBy != null ? 1 : 0) + (findBys != null ? 1 : 0) + (findAll != null ? 1 : 0);
+        if (annotationCount > 1) {
+            error(field, "Only one of @FindBy, @FindBys and @FindAll may be used on a field");
+            return null;
+        }
+
+        if (findBys != null) {
+            return buildComposite("org.openqa.selenium.support.pagefactory.ByChained", findBys.value(), field);
+        }
+        if (findAll != null) {
+            return buildComposite("org.openqa.selenium.support.pagefactory.ByAll", findAll.value(), field);
+        }
+        if (findBy != null) {
+            return buildFindBy(findBy, field);
+        }
+        return "new org.openqa.selenium.support.ByIdOrName(" + literal(field.getSimpleName().toString()) + ")";
+    }
+
+    private String buildComposite(String byClass, FindBy[] findBys, VariableElement field) {
+        List<String> parts = new ArrayList<>();
+        for (FindBy findBy : findBys) {
+            String part = buildFindBy(findBy, field);
+            if (part == null) {
+                return null;
+            }
+            parts.add(part);
+        }
+        return "new " + byClass + "(" + String.join(", ", parts) + ")";
+    }
+
+    private String buildFindBy(FindBy findBy, VariableElement field) {
+        if (findBy.how() != How.UNSET) {
+            if (findBy.using().isEmpty()) {
+                error(field, "@FindBy(how = " + findBy.how() + ") needs a 'using' value");
+                return null;
+            }
+            return buildHow(findBy.how(), findBy.using());
+        }
+
+        // Same order as FindBy.FindByBuilder
+        String[][] locators = {
+                {BY + ".className", findBy.className()},
+                {BY + ".cssSelector", findBy.css()},
+                {BY + ".id", findBy.id()},
+                {BY + ".linkText", findBy.linkText()},
+                {BY + ".name", findBy.name()},
+                {BY + ".partialLinkText", findBy.partialLinkText()},
+                {BY + ".tagName", findBy.tagName()},
+                {BY + ".xpath", findBy.xpath()}};
+        String by = null;
+        for (String[] locator : locators) {
+            if (locator[1].isEmpty()) {
+                continue;
+            }
+            if (by != null) {
+                error(field, "@FindBy on " + field.getSimpleName() + " sets more than one locator");
+                return null;
+            }
+            by = locator[0] + "(" + literal(locator[1]) + ")";
+        }
+        if (by == null) {
+            error(field, "@FindBy on " + field.getSimpleName() + " sets no locator");
+        }
+        return by;
+    }
+
+    private String buildHow(How how, String using) {
+        switch (how) {
+            case CLASS_NAME:
+                return BY + ".className(" + literal(using) + ")";
+            case CSS:
+                return BY + ".cssSelector(" + literal(using) + ")";
+            case ID:
+                return BY + ".id(" + literal(using) + ")";
+            case ID_OR_NAME:
+                return "new org.openqa.selenium.support.ByIdOrName(" + literal(using) + ")";
+            case LINK_TEXT:
+                return BY + ".linkText(" + literal(using) + ")";
+            case NAME:
+                return BY + ".name(" + literal(using) + ")";
+            case PARTIAL_LINK_TEXT:
+                return BY + ".partialLinkText(" + literal(using) + ")";
+            case TAG_NAME:
+                return BY + ".tagName(" + literal(using) + ")";
+            case XPATH:
+                return BY + ".xpath(" + literal(using) + ")";
+            default:
+                throw new IllegalArgumentException("Unsupported locator strategy: " + how);
+        }
+    }
+
+    private boolean writeWiring(TypeElement page, String superWiring, List<String> locators,
+                                List<String> assignments) {
+        String pageName = page.getQualifiedName().toString();
+        String wiringName = getWiringName(page);
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String simpleName = wiringName.substring(wiringName.lastIndexOf('.') + 1);
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(wiringName, page).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + simpleName + " implements " + PAGE_WIRER + "<" + pageName + "> {");
+            if (superWiring != null) {
+                out.println("    private static final " + superWiring + " superWiring = new " + superWiring + "();");
+            }
+            locators.forEach(out::println);
+            if (superWiring != null || !locators.isEmpty()) {
+                out.println();
+            }
+            out.println("    @Override");
+            out.println("    public Class<" + pageName + "> getPageClass() {");
+            out.println("        return " + pageName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void wire(" + pageName + " page, " + PAGE_ELEMENTS + " elements) {");
+            if (superWiring != null) {
+                out.println("        superWiring.wire(page, elements);");
+            }
+            assignments.forEach(out::println);
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(page, "Unable to write page wiring: " + e.getMessage());
+            return false;
+        }
+        generatedWirings.add(wiringName);
+        return true;
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject serviceFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    "META-INF/services/" + PAGE_WIRER);
+            try (PrintWriter out = new PrintWriter(serviceFile.openWriter())) {
+                generatedWirings.forEach(out::println);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to register page wirings: " + e.getMessage());
+        }
+    }
+
+    private static String getWiringName(TypeElement page) {
+        return page.getQualifiedName() + WIRING_SUFFIX;
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private void warn(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -3,6 +3,7 @@ package com.medsky.automation.reporters;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.medsky.automation.config.ConfigReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,34 +11,53 @@ import java.io.File;
 
 public class ExtentManager {
     private static final Logger logger = LoggerFactory.getLogger(ExtentManager.class);
+    static final String SHARDS_DIR = "shards";
     private static ExtentReports extentReport;
     private static String path;
 
     public static ExtentReports getExtentReports() {
         if(extentReport == null) {
-            File folder = new File(System.getProperty("user.dir") + "/target/reports");
+            String reportDir = System.getProperty("user.dir") + "/target/reports";
+            if (ConfigReader.isReportShardingEnabled()) {
+                // Every fork or agent gets its own directory, grouped by run; ReportShardMerger combines them afterwards
+                reportDir += "/" + SHARDS_DIR;
+                if (!ConfigReader.getReportRunId().isEmpty()) {
+                    reportDir += "/" + ConfigReader.getReportRunId();
+                }
+                reportDir += "/" + ConfigReader.getReportShardId();
+            }
+            File folder = new File(reportDir);
             if (!folder.exists()) {
                 folder.mkdirs(); // This creates the directory if Docker/Linux hasn't yet
             }
-            path = System.getProperty("user.dir") + "/target/reports/ExtentReport.html";
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(path);
-            sparkReporter.config().setReportName("Automation Test Results");
-            sparkReporter.config().setDocumentTitle("Selenium TestNG Report");
-            sparkReporter.config().setTheme(Theme.DARK);
-            sparkReporter.config().setOfflineMode(true);
-            logger.debug("Reporter config setup done");
-
-            extentReport = new ExtentReports();
-            extentReport.attachReporter(sparkReporter);
-            logger.debug("Spark reporter attached");
-
-            extentReport.setSystemInfo("OS", System.getProperty("os.name"));
-            extentReport.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extentReport.setSystemInfo("Tester Name", "Lalit Sharma");
+            path = reportDir + "/ExtentReport.html";
+            extentReport = createExtentReports(path);
+            if (ConfigReader.isReportShardingEnabled()) {
+                extentReport.setSystemInfo("Run", ConfigReader.getReportRunId());
+                extentReport.setSystemInfo("Shard", ConfigReader.getReportShardId());
+            }
         }
         return extentReport;
     }
 
+    static ExtentReports createExtentReports(String reportPath) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setReportName("Automation Test Results");
+        sparkReporter.config().setDocumentTitle("Selenium TestNG Report");
+        sparkReporter.config().setTheme(Theme.DARK);
+        sparkReporter.config().setOfflineMode(true);
+        logger.debug("Reporter config setup done");
+
+        ExtentReports extentReports = new ExtentReports();
+        extentReports.attachReporter(sparkReporter);
+        logger.debug("Spark reporter attached");
+
+        extentReports.setSystemInfo("OS", System.getProperty("os.name"));
+        extentReports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        extentReports.setSystemInfo("Tester Name", "Lalit Sharma");
+        return extentReports;
+    }
+
     public static String getReportPath() {
         return path;
     }
@@ -0,0 +1,118 @@
+package com.medsky.automation.reporters;
+
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.ExtentColor;
+
+/**
+ * One immutable change to the report, captured on the test thread and applied to the Extent model by
+ * {@link ReportPipeline}.
+ */
+public final class ReportEvent {
+    public enum Type {
+        TEST_STARTED, LOG, THROWABLE, SCREENSHOT, TEST_FINISHED, FLUSH
+    }
+
+    private final Type type;
+    private final long timestamp = System.currentTimeMillis();
+    private final String testId;
+    private final String testClass;
+    private final String testMethod;
+    private final Status status;
+    private final String message;
+    private final String detail;
+    private final ExtentColor labelColor;
+    private final Throwable throwable;
+
+    private ReportEvent(Type type, String testId, Status status, String message, String detail,
+                        ExtentColor labelColor, Throwable throwable) {
+        this(type, testId, null, null, status, message, detail, labelColor, throwable);
+    }
+
+    private ReportEvent(Type type, String testId, String testClass, String testMethod, Status status, String message,
+                        String detail, ExtentColor labelColor, Throwable throwable) {
+        this.type = type;
+        this.testId = testId;
+        this.testClass = testClass;
+        this.testMethod = testMethod;
+        this.status = status;
+        this.message = message;
+        this.detail = detail;
+        this.labelColor = labelColor;
+        this.throwable = throwable;
+    }
+
+    /**
+     * @param testClass the fully-qualified name of the test class
+     */
+    public static ReportEvent testStarted(String testId, String testClass, String testMethod, String testName,
+                                          String category) {
+        return new ReportEvent(Type.TEST_STARTED, testId, testClass, testMethod, null, testName, category, null, null);
+    }
+
+    public static ReportEvent log(String testId, Status status, String message) {
+        return new ReportEvent(Type.LOG, testId, status, message, null, null, null);
+    }
+
+    public static ReportEvent label(String testId, Status status, String message, ExtentColor color) {
+        return new ReportEvent(Type.LOG, testId, status, message, null, color, null);
+    }
+
+    public static ReportEvent throwable(String testId, Status status, Throwable throwable) {
+        return new ReportEvent(Type.THROWABLE, testId, status, null, null, null, throwable);
+    }
+
+    /**
+     * @param source a {@code data:} URI for embedded screenshots, otherwise a path relative to the report
+     */
+    public static ReportEvent screenshot(String testId, Status status, String title, String source) {
+        return new ReportEvent(Type.SCREENSHOT, testId, status, title, source, null, null);
+    }
+
+    public static ReportEvent testFinished(String testId) {
+        return new ReportEvent(Type.TEST_FINISHED, testId, null, null, null, null, null);
+    }
+
+    static ReportEvent flush() {
+        return new ReportEvent(Type.FLUSH, null, null, null, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getTestId() {
+        return testId;
+    }
+
+    public String getTestClass() {
+        return testClass;
+    }
+
+    public String getTestMethod() {
+        return testMethod;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public ExtentColor getLabelColor() {
+        return labelColor;
+    }
+
+    public Throwable getThrowable() {
+        return throwable;
+    }
+}
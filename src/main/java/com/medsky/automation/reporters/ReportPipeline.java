@@ -0,0 +1,263 @@
+package com.medsky.automation.reporters;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.aventstack.extentreports.model.Log;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medsky.automation.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The only code that touches the Extent model. With {@code report.async} on, events go into a lock-free queue
+ * and a single writer thread applies them, flushes the report every {@code report.flushIntervalSeconds} and
+ * optionally appends each event to a JSON-lines log. Otherwise events are applied on the calling thread.
+ */
+public final class ReportPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(ReportPipeline.class);
+
+    static final String EVENT_LOG_FILE = "report-events.jsonl";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final ExtentReports extentReports = ExtentManager.getExtentReports();
+    // Owned by the writer thread in async mode, guarded by the class lock otherwise
+    private static final Map<String, ExtentTest> tests = new HashMap<>();
+    private static final Queue<ReportEvent> queue = new ConcurrentLinkedQueue<>();
+    private static final Map<ReportEvent, CountDownLatch> flushBarriers = new ConcurrentHashMap<>();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static volatile Thread writerThread;
+    private static BufferedWriter eventLog;
+
+    private ReportPipeline() {}
+
+    public static void publish(ReportEvent event) {
+        if (!ConfigReader.isAsyncReporting()) {
+            synchronized (ReportPipeline.class) {
+                apply(event);
+            }
+            return;
+        }
+        queue.offer(event);
+        ensureWriterStarted();
+    }
+
+    /**
+     * Asks for the report to be written. Returns immediately in async mode; the writer flushes when it
+     * reaches this point in the queue.
+     */
+    public static void requestFlush() {
+        publish(ReportEvent.flush());
+    }
+
+    /**
+     * Applies everything published so far and flushes the report, waiting up to {@code report.drainSeconds}.
+     * Called once at suite end.
+     */
+    public static void drain() {
+        if (!ConfigReader.isAsyncReporting()) {
+            requestFlush();
+            return;
+        }
+        // Nothing was ever queued, so flush here rather than start a writer just to hand it this one event
+        synchronized (ReportPipeline.class) {
+            if (writerThread == null) {
+                apply(ReportEvent.flush());
+                return;
+            }
+        }
+
+        ReportEvent barrier = ReportEvent.flush();
+        CountDownLatch flushed = new CountDownLatch(1);
+        flushBarriers.put(barrier, flushed);
+        queue.offer(barrier);
+        LockSupport.unpark(writerThread);
+        try {
+            if (!flushed.await(ConfigReader.getReportDrainSeconds(), TimeUnit.SECONDS)) {
+                logger.warn("Report writer still has {} events queued after drain timeout", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private static void ensureWriterStarted() {
+        if (writerThread != null) {
+            return;
+        }
+        synchronized (ReportPipeline.class) {
+            if (writerThread == null) {
+                Thread thread = new Thread(ReportPipeline::runWriter, "report-writer");
+                thread.setDaemon(true);
+                thread.start();
+                writerThread = thread;
+            }
+        }
+    }
+
+    private static void runWriter() {
+        long flushIntervalNanos = TimeUnit.SECONDS.toNanos(ConfigReader.getReportFlushIntervalSeconds());
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        boolean dirty = false;
+
+        while (true) {
+            ReportEvent event = queue.poll();
+            if (event != null) {
+                apply(event);
+                dirty = event.getType() != ReportEvent.Type.FLUSH;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+
+            if (dirty && System.nanoTime() - nextFlush >= 0) {
+                apply(ReportEvent.flush());
+                dirty = false;
+            }
+            if (!dirty) {
+                nextFlush = System.nanoTime() + flushIntervalNanos;
+            }
+        }
+    }
+
+    private static void apply(ReportEvent event) {
+        try {
+            writeToEventLog(event);
+            if (event.getType() == ReportEvent.Type.FLUSH) {
+                extentReports.flush();
+                return;
+            }
+            if (event.getType() == ReportEvent.Type.TEST_STARTED) {
+                tests.computeIfAbsent(event.getTestId(), id -> {
+                    ExtentTest extentTest = extentReports.createTest(event.getMessage());
+                    extentTest.assignCategory(event.getDetail());
+                    // Async events are applied later than they happened; the report shows when they happened
+                    extentTest.getModel().setStartTime(new Date(event.getTimestamp()));
+                    return extentTest;
+                });
+                return;
+            }
+            if (event.getType() == ReportEvent.Type.TEST_FINISHED) {
+                ExtentTest extentTest = tests.remove(event.getTestId());
+                if (extentTest != null) {
+                    extentTest.getModel().setEndTime(new Date(event.getTimestamp()));
+                }
+                return;
+            }
+
+            ExtentTest extentTest = tests.get(event.getTestId());
+            if (extentTest == null) {
+                logger.error("No report entry for test: {}. This indicates onTestStart was not called properly.",
+                        event.getTestId());
+                return;
+            }
+            log(extentTest, event);
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply report event {} for test: {}", event.getType(), event.getTestId(), e);
+        } finally {
+            CountDownLatch barrier = flushBarriers.remove(event);
+            if (barrier != null) {
+                barrier.countDown();
+            }
+        }
+    }
+
+    private static void log(ExtentTest extentTest, ReportEvent event) {
+        switch (event.getType()) {
+            case LOG:
+                if (event.getLabelColor() != null) {
+                    extentTest.log(event.getStatus(), MarkupHelper.createLabel(event.getMessage(), event.getLabelColor()));
+                } else {
+                    extentTest.log(event.getStatus(), event.getMessage());
+                }
+                break;
+            case THROWABLE:
+                extentTest.log(event.getStatus(), event.getThrowable());
+                break;
+            case SCREENSHOT:
+                MediaEntityBuilder media = event.getDetail().startsWith("data:")
+                        ? MediaEntityBuilder.createScreenCaptureFromBase64String(event.getDetail())
+                        : MediaEntityBuilder.createScreenCaptureFromPath(event.getDetail());
+                extentTest.log(event.getStatus(), event.getMessage(), media.build());
+                break;
+            default:
+                return;
+        }
+        stampLastLog(extentTest, new Date(event.getTimestamp()));
+    }
+
+    /**
+     * Dates the log just added, and the test's end, at {@code time} instead of when the entry was written.
+     */
+    static void stampLastLog(ExtentTest extentTest, Date time) {
+        List<Log> logs = extentTest.getModel().getLogs();
+        if (!logs.isEmpty()) {
+            logs.get(logs.size() - 1).setTimestamp(time);
+        }
+        extentTest.getModel().setEndTime(time);
+    }
+
+    private static void writeToEventLog(ReportEvent event) {
+        // A shard is its event log, so sharded runs always keep one
+        if (!ConfigReader.isReportEventLogEnabled() && !ConfigReader.isReportShardingEnabled()) {
+            return;
+        }
+        try {
+            if (eventLog == null) {
+                File logFile = new File(new File(ExtentManager.getReportPath()).getParentFile(), EVENT_LOG_FILE);
+                eventLog = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8);
+            }
+
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("time", event.getTimestamp());
+            line.put("type", event.getType());
+            line.put("test", event.getTestId());
+            if (event.getType() == ReportEvent.Type.TEST_STARTED) {
+                line.put("class", event.getTestClass());
+                line.put("method", event.getTestMethod());
+            }
+            line.put("status", event.getStatus() == null ? null : event.getStatus().name());
+            line.put("label", event.getLabelColor() == null ? null : event.getLabelColor().name());
+            line.put("message", event.getMessage());
+            // Embedded screenshots would bloat the log; the report already holds them
+            String detail = event.getDetail();
+            line.put("detail", detail != null && detail.startsWith("data:") ? "(embedded image)" : detail);
+            line.put("error", event.getThrowable() == null ? null : getStackTrace(event.getThrowable()));
+            eventLog.write(objectMapper.writeValueAsString(line));
+            eventLog.newLine();
+            if (event.getType() == ReportEvent.Type.FLUSH) {
+                eventLog.flush();
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to write report event log", e);
+        }
+    }
+
+    private static String getStackTrace(Throwable throwable) {
+        StringWriter stackTrace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(stackTrace));
+        return stackTrace.toString();
+    }
+}
@@ -0,0 +1,270 @@
+package com.medsky.automation.reporters;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.ExtentColor;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medsky.automation.utils.FileHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Combines the report shards written by sharded runs ({@code report.sharded=true}) into one Extent report and
+ * one JUnit XML summary. Shards are replayed one event at a time, so only the merged report model is held in
+ * memory, never a whole shard. Without arguments, merges the most recent run under {@code target/reports/shards}.
+ * <pre>
+ * mvn -q compile exec:java -Dexec.mainClass=com.medsky.automation.reporters.ReportShardMerger \
+ *     -Dexec.args="target/reports/shards/&lt;runId&gt; target/reports"
+ * </pre>
+ */
+public final class ReportShardMerger {
+    private static final Logger logger = LoggerFactory.getLogger(ReportShardMerger.class);
+
+    private static final String JUNIT_FILE = "TEST-merged-shards.xml";
+    // Relative links in logged HTML (thumbnails) point into the shard directory
+    private static final Pattern RELATIVE_LINK = Pattern.compile("(href|src)='(?![a-zA-Z][a-zA-Z0-9+.-]*:|/)");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReportShardMerger() {}
+
+    public static void main(String[] args) {
+        File shardsRoot = args.length > 0 ? new File(args[0])
+                : getLatestRun(new File("target/reports/" + ExtentManager.SHARDS_DIR));
+        File outputDirectory = args.length > 1 ? new File(args[1]) : new File("target/reports");
+        merge(shardsRoot, outputDirectory);
+    }
+
+    /**
+     * @return the number of shards merged
+     */
+    public static int merge(File shardsRoot, File outputDirectory) {
+        File[] shardDirectories = shardsRoot.listFiles(directory ->
+                new File(directory, ReportPipeline.EVENT_LOG_FILE).isFile());
+        if (shardDirectories == null || shardDirectories.length == 0) {
+            logger.warn("No report shards found under: {}", shardsRoot.getAbsolutePath());
+            return 0;
+        }
+        Arrays.sort(shardDirectories, Comparator.comparing(File::getName));
+        FileHelper.createDirectories(outputDirectory.getPath());
+
+        ExtentReports mergedReport = ExtentManager.createExtentReports(
+                new File(outputDirectory, "ExtentReport.html").getPath());
+        File junitFile = new File(outputDirectory, JUNIT_FILE);
+        int totalTests = 0;
+
+        try (OutputStream outputStream = Files.newOutputStream(junitFile.toPath())) {
+            XMLStreamWriter junit = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+            junit.writeStartDocument("UTF-8", "1.0");
+            junit.writeStartElement("testsuites");
+            for (File shardDirectory : shardDirectories) {
+                List<TestOutcome> outcomes = replayShard(shardDirectory, outputDirectory, mergedReport);
+                writeTestSuite(junit, shardDirectory.getName(), outcomes);
+                totalTests += outcomes.size();
+            }
+            junit.writeEndElement();
+            junit.writeEndDocument();
+            junit.close();
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("Unable to merge report shards from: " + shardsRoot, e);
+        }
+
+        mergedReport.flush();
+        logger.info("Merged {} report shards ({} tests) into: {}, JUnit summary: {}", shardDirectories.length,
+                totalTests, outputDirectory.getAbsolutePath(), junitFile.getAbsolutePath());
+        return shardDirectories.length;
+    }
+
+    // --- Helper Methods ---
+
+    private static File getLatestRun(File shardsRoot) {
+        // Shards written without a run id sit directly under the root
+        File[] runDirectories = shardsRoot.listFiles(directory -> directory.isDirectory()
+                && !new File(directory, ReportPipeline.EVENT_LOG_FILE).isFile());
+        if (runDirectories == null || runDirectories.length == 0) {
+            return shardsRoot;
+        }
+        return Arrays.stream(runDirectories).max(Comparator.comparingLong(File::lastModified)).get();
+    }
+
+    private static List<TestOutcome> replayShard(File shardDirectory, File outputDirectory, ExtentReports mergedReport)
+            throws IOException {
+        String shardId = shardDirectory.getName();
+        String linkPrefix = FileHelper.getRelativePath(outputDirectory, shardDirectory) + "/";
+        Map<String, ExtentTest> openTests = new HashMap<>();
+        Map<String, TestOutcome> openOutcomes = new HashMap<>();
+        List<TestOutcome> outcomes = new ArrayList<>();
+
+        File eventLog = new File(shardDirectory, ReportPipeline.EVENT_LOG_FILE);
+        try (BufferedReader reader = Files.newBufferedReader(eventLog.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                JsonNode event;
+                try {
+                    event = objectMapper.readTree(line);
+                } catch (IOException e) {
+                    // A fork killed mid-write leaves a truncated last line
+                    logger.warn("Skipping unreadable event in shard {}: {}", shardId, e.getMessage());
+                    continue;
+                }
+
+                String type = event.path("type").asText();
+                String testId = event.path("test").asText(null);
+                long time = event.path("time").asLong();
+
+                if ("TEST_STARTED".equals(type)) {
+                    if (!openTests.containsKey(testId)) {
+                        ExtentTest extentTest = mergedReport.createTest(event.path("message").asText());
+                        extentTest.assignCategory(event.path("detail").asText());
+                        extentTest.assignDevice(shardId);
+                        extentTest.getModel().setStartTime(new Date(time));
+                        openTests.put(testId, extentTest);
+                        // Logs written before the class and method were recorded fall back to the shard and test id
+                        TestOutcome outcome = new TestOutcome(event.path("class").asText(shardId),
+                                event.path("method").asText(testId), time);
+                        openOutcomes.put(testId, outcome);
+                        outcomes.add(outcome);
+                    }
+                    continue;
+                }
+                if ("TEST_FINISHED".equals(type)) {
+                    ExtentTest extentTest = openTests.remove(testId);
+                    if (extentTest != null) {
+                        extentTest.getModel().setEndTime(new Date(time));
+                    }
+                    openOutcomes.remove(testId);
+                    continue;
+                }
+
+                ExtentTest extentTest = openTests.get(testId);
+                TestOutcome outcome = openOutcomes.get(testId);
+                if (extentTest == null || outcome == null || !event.path("status").isTextual()) {
+                    continue;
+                }
+                replayEvent(extentTest, outcome, type, Status.valueOf(event.path("status").asText()), event, time,
+                        linkPrefix);
+            }
+        }
+        return outcomes;
+    }
+
+    private static void replayEvent(ExtentTest extentTest, TestOutcome outcome, String type, Status status,
+                                    JsonNode event, long time, String linkPrefix) {
+        outcome.endTime = time;
+        String message = event.path("message").asText(null);
+
+        switch (type) {
+            case "LOG":
+                if (event.path("label").isTextual()) {
+                    extentTest.log(status, MarkupHelper.createLabel(message,
+                            ExtentColor.valueOf(event.path("label").asText())));
+                } else {
+                    extentTest.log(status, RELATIVE_LINK.matcher(message)
+                            .replaceAll("$1='" + Matcher.quoteReplacement(linkPrefix)));
+                }
+                if (status == Status.PASS || status == Status.FAIL || status == Status.SKIP) {
+                    outcome.status = status;
+                }
+                break;
+            case "THROWABLE":
+                String error = event.path("error").asText();
+                extentTest.log(status, MarkupHelper.createCodeBlock(error));
+                if (status == Status.FAIL || status == Status.SKIP) {
+                    outcome.error = error;
+                }
+                break;
+            case "SCREENSHOT":
+                String source = event.path("detail").asText();
+                if (source.startsWith("(")) {
+                    // Embedded images stay in the shard's own report
+                    extentTest.log(status, message + " (see shard report)");
+                } else {
+                    extentTest.log(status, message,
+                            MediaEntityBuilder.createScreenCaptureFromPath(linkPrefix + source).build());
+                }
+                break;
+            default:
+                return;
+        }
+        ReportPipeline.stampLastLog(extentTest, new Date(time));
+    }
+
+    private static void writeTestSuite(XMLStreamWriter junit, String shardId, List<TestOutcome> outcomes)
+            throws XMLStreamException {
+        long failures = outcomes.stream().filter(outcome -> outcome.status == Status.FAIL).count();
+        long skipped = outcomes.stream().filter(outcome -> outcome.status == Status.SKIP).count();
+        double seconds = outcomes.stream().mapToDouble(TestOutcome::getSeconds).sum();
+
+        junit.writeStartElement("testsuite");
+        junit.writeAttribute("name", shardId);
+        junit.writeAttribute("tests", String.valueOf(outcomes.size()));
+        junit.writeAttribute("failures", String.valueOf(failures));
+        junit.writeAttribute("errors", "0");
+        junit.writeAttribute("skipped", String.valueOf(skipped));
+        junit.writeAttribute("time", String.format(Locale.ROOT, "%.3f", seconds));
+
+        for (TestOutcome outcome : outcomes) {
+            junit.writeStartElement("testcase");
+            junit.writeAttribute("classname", outcome.testClass);
+            junit.writeAttribute("name", outcome.testMethod);
+            junit.writeAttribute("time", String.format(Locale.ROOT, "%.3f", outcome.getSeconds()));
+            if (outcome.status == Status.FAIL || outcome.status == Status.SKIP) {
+                junit.writeStartElement(outcome.status == Status.FAIL ? "failure" : "skipped");
+                if (outcome.error != null) {
+                    junit.writeAttribute("message", outcome.error.split("\\R", 2)[0]);
+                    junit.writeCharacters(outcome.error);
+                }
+                junit.writeEndElement();
+            }
+            junit.writeEndElement();
+        }
+        junit.writeEndElement();
+    }
+
+    private static final class TestOutcome {
+        private final String testClass;
+        private final String testMethod;
+        private final long startTime;
+        private long endTime;
+        private Status status;
+        private String error;
+
+        private TestOutcome(String testClass, String testMethod, long startTime) {
+            this.testClass = testClass;
+            this.testMethod = testMethod;
+            this.startTime = startTime;
+            this.endTime = startTime;
+        }
+
+        private double getSeconds() {
+            return (endTime - startTime) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.medsky.automation.utils;
+
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Learns how long each element (keyed {@code Page.field}) takes to become ready and persists it between runs.
+ * Checks that may legitimately find the element absent get a timeout of p99 &times; {@code adaptiveWait.safetyFactor}
+ * once the key has enough history; positive waits keep the configured timeout as their ceiling. Every wait gets a
+ * polling schedule that starts near the typical ready time and backs off from there.
+ */
+public final class AdaptiveWaits {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveWaits.class);
+
+    private static final long MIN_POLL_MILLIS = 25;
+    private static final long MAX_POLL_MILLIS = 500;
+
+    private static final Map<String, WaitHistory> histories = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    private static final AtomicLong adaptedWaits = new AtomicLong();
+    private static final AtomicLong shortenedTimeouts = new AtomicLong();
+    private static final AtomicLong savedMillis = new AtomicLong();
+
+    private AdaptiveWaits() {}
+
+    /**
+     * Timeout for a presence check on the key (one where the element being absent is an expected answer): the
+     * configured one until the key has {@code adaptiveWait.minSamples} samples on record, then p99 &times; safety
+     * factor, never below {@code adaptiveWait.minTimeoutMillis} nor above the configured timeout.
+     */
+    public static Duration probeTimeoutFor(String key, int configuredSeconds) {
+        Duration configured = Duration.ofSeconds(configuredSeconds);
+        WaitHistory history = getHistory(key);
+        if (history == null || history.size() < ConfigReader.getAdaptiveWaitMinSamples()) {
+            return configured;
+        }
+
+        long budgetMillis = Math.max(ConfigReader.getAdaptiveWaitMinTimeoutMillis(),
+                (long) (history.percentile(99) * ConfigReader.getAdaptiveWaitSafetyFactor()));
+        adaptedWaits.incrementAndGet();
+        return budgetMillis < configured.toMillis() ? Duration.ofMillis(budgetMillis) : configured;
+    }
+
+    /**
+     * Backoff schedule for one wait: first poll after a quarter of the median ready time, then doubling up to
+     * {@value #MAX_POLL_MILLIS} ms.
+     */
+    public static Sleeper backoffSleeper(String key) {
+        WaitHistory history = getHistory(key);
+        long firstPoll = history == null || history.size() == 0 ? MIN_POLL_MILLIS * 2 : history.percentile(50) / 4;
+        long[] nextPoll = {Math.min(Math.max(firstPoll, MIN_POLL_MILLIS), MAX_POLL_MILLIS)};
+
+        return ignored -> {
+            long pollMillis = nextPoll[0];
+            nextPoll[0] = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+            Thread.sleep(pollMillis);
+        };
+    }
+
+    public static void recordReady(String key, long readyMillis) {
+        if (key == null || !ConfigReader.isAdaptiveWaitEnabled()) {
+            return;
+        }
+        loadHistory();
+        histories.computeIfAbsent(key, k -> new WaitHistory()).add(readyMillis);
+    }
+
+    /**
+     * A positive wait ran out its configured timeout. Recorded as a sample at that timeout (the element took at
+     * least that long), so a slow environment raises the learned p99 instead of being cut short by it.
+     */
+    public static void recordTimeout(String key, int configuredSeconds) {
+        recordReady(key, TimeUnit.SECONDS.toMillis(configuredSeconds));
+    }
+
+    /**
+     * A presence check found nothing within its (possibly learned) timeout. Recorded as a sample at that timeout,
+     * since the element would have taken at least that long, so the next budget widens if it was merely slow;
+     * the time saved against the configured timeout is counted too.
+     */
+    public static void recordAbsent(String key, Duration timeout, int configuredSeconds) {
+        recordReady(key, timeout.toMillis());
+        long saved = TimeUnit.SECONDS.toMillis(configuredSeconds) - timeout.toMillis();
+        if (key != null && saved > 0) {
+            shortenedTimeouts.incrementAndGet();
+            savedMillis.addAndGet(saved);
+        }
+    }
+
+    public static synchronized void save() {
+        if (!loaded || histories.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        histories.forEach((key, history) -> properties.setProperty(key, history.serialize()));
+
+        File historyFile = new File(ConfigReader.getAdaptiveWaitHistoryFile());
+        try {
+            FileHelper.writeAtomically(historyFile.toPath(),
+                    outputStream -> properties.store(outputStream, "Time-to-ready history in milliseconds per Page.field"));
+        } catch (IOException e) {
+            logger.warn("Unable to write wait history: {}", historyFile, e);
+        }
+    }
+
+    public static void logStats() {
+        if (adaptedWaits.get() == 0) {
+            return;
+        }
+        logger.info("Adaptive waits - learned keys: {}, checks on learned timeouts: {}, absent early: {}, " +
+                        "wait time saved: {} s",
+                histories.size(), adaptedWaits.get(), shortenedTimeouts.get(),
+                TimeUnit.MILLISECONDS.toSeconds(savedMillis.get()));
+    }
+
+    // --- Helper Methods ---
+
+    private static WaitHistory getHistory(String key) {
+        if (key == null || !ConfigReader.isAdaptiveWaitEnabled()) {
+            return null;
+        }
+        loadHistory();
+        return histories.get(key);
+    }
+
+    private static void loadHistory() {
+        if (loaded) {
+            return;
+        }
+        synchronized (AdaptiveWaits.class) {
+            if (loaded) {
+                return;
+            }
+            File historyFile = new File(ConfigReader.getAdaptiveWaitHistoryFile());
+            if (historyFile.isFile()) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = Files.newInputStream(historyFile.toPath())) {
+                    properties.load(inputStream);
+                    properties.stringPropertyNames().forEach(key ->
+                            histories.put(key, WaitHistory.parse(properties.getProperty(key))));
+                    logger.debug("Loaded wait history for {} keys from: {}", histories.size(), historyFile);
+                } catch (IOException | NumberFormatException e) {
+                    logger.warn("Unable to read wait history, starting fresh: {}", historyFile, e);
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    /**
+     * Most recent {@code adaptiveWait.maxSamples} ready times for one key.
+     */
+    private static final class WaitHistory {
+        private final long[] samples = new long[ConfigReader.getAdaptiveWaitMaxSamples()];
+        private int count;
+        private int next;
+
+        private static WaitHistory parse(String value) {
+            WaitHistory history = new WaitHistory();
+            for (String sample : value.split(",")) {
+                if (!sample.trim().isEmpty()) {
+                    history.add(Long.parseLong(sample.trim()));
+                }
+            }
+            return history;
+        }
+
+        private synchronized void add(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        private synchronized int size() {
+            return count;
+        }
+
+        private synchronized long percentile(int percentile) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+        private synchronized String serialize() {
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                // Oldest first, so reloading keeps the ring in order
+                long sample = samples[(next - count + i + samples.length) % samples.length];
+                value.append(i == 0 ? "" : ",").append(sample);
+            }
+            return value.toString();
+        }
+    }
+}
@@ -4,13 +4,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 public class FileHelper {
     private static final Logger logger = LoggerFactory.getLogger(FileHelper.class);
 
     private FileHelper() {}
 
+    /**
+     * Receives the stream a file's new content is written to.
+     */
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
     public static boolean createDirectories(String directoryName) {
         boolean flag = false;
         File dir = new File(directoryName);
@@ -37,9 +49,6 @@ public class FileHelper {
             screenshotPath = screenshotPath.toAbsolutePath().normalize();
 
             // Calculate relative path
-            System.out.println(reportPath);
-            System.out.println(screenshotPath);
-            System.out.println(reportPath.relativize(screenshotPath));
             Path relativePath = reportPath.relativize(screenshotPath);
 
             // Convert to string with forward slashes (works in all browsers)
@@ -51,4 +60,26 @@ public class FileHelper {
             return secondFile.getAbsolutePath();
         }
     }
+
+    /**
+     * Writes the file through a temp file in the same directory and moves it into place, so readers (including
+     * other JVMs) see either the old content or the complete new content, never a partial write.
+     */
+    public static void writeAtomically(Path target, ContentWriter contentWriter) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "." + target.getFileName(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                contentWriter.write(outputStream);
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 }
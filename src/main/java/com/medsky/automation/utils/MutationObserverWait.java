@@ -0,0 +1,114 @@
+package com.medsky.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Waits for an element condition inside the browser: a MutationObserver re-checks the condition on every DOM
+ * change and the async script returns as soon as it holds, so a wait costs one remote call instead of one per poll.
+ */
+public final class MutationObserverWait {
+    private static final Logger logger = LoggerFactory.getLogger(MutationObserverWait.class);
+
+    // Head-room over the wait itself so the browser-side timer always answers before the script timeout fires
+    static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(5);
+
+    private static final String AWAIT_SCRIPT =
+            "var el = arguments[0], condition = arguments[1], text = arguments[2], timeoutMs = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "if (typeof MutationObserver === 'undefined') { done('unsupported'); return; }" +
+            "function isVisible() {" +
+            "  var style = window.getComputedStyle(el);" +
+            "  return style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "}" +
+            // A re-rendered page replaces the node; only a fresh lookup (the caller's polling) can find the new one
+            "function check() {" +
+            "  if (!el.isConnected) return 'detached';" +
+            "  switch (condition) {" +
+            "    case 'VISIBLE': return isVisible();" +
+            "    case 'CLICKABLE': return isVisible() && !el.disabled;" +
+            "    case 'TEXT_PRESENT': return (el.innerText || '').indexOf(text) !== -1;" +
+            "    case 'INVISIBLE': return !isVisible();" +
+            "  }" +
+            "  return false;" +
+            "}" +
+            "var initial = check();" +
+            "if (initial) { done(initial); return; }" +
+            "var observer, interval, timer;" +
+            "function finish(result) { observer.disconnect(); clearInterval(interval); clearTimeout(timer); done(result); }" +
+            "function recheck() { var result = check(); if (result) finish(result); }" +
+            "observer = new MutationObserver(recheck);" +
+            "observer.observe(document, { attributes: true, childList: true, subtree: true, characterData: true });" +
+            // Layout-only changes (stylesheets, transitions) fire no mutation, so re-check locally as a safety net
+            "interval = setInterval(recheck, 100);" +
+            "timer = setTimeout(function() { finish(check()); }, timeoutMs);";
+
+    private static final Map<WebDriver, Duration> scriptTimeouts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public enum Condition {
+        VISIBLE(1), CLICKABLE(2), TEXT_PRESENT(1), INVISIBLE(1);
+
+        private final int commandsPerPoll;
+
+        Condition(int commandsPerPoll) {
+            this.commandsPerPoll = commandsPerPoll;
+        }
+
+        /**
+         * Remote calls one evaluation of the equivalent {@code ExpectedConditions} check makes.
+         */
+        public int getCommandsPerPoll() {
+            return commandsPerPoll;
+        }
+    }
+
+    private MutationObserverWait() {}
+
+    /**
+     * @return whether the condition was met within the timeout, or {@code null} when the browser can't run the
+     * observer, the element can't be handed to it or was replaced by a re-render, and the caller should poll instead
+     */
+    public static Boolean await(WebDriver driver, WebElement element, Condition condition, String text, Duration timeout) {
+        try {
+            ensureScriptTimeout(driver, timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_SCRIPT,
+                    element, condition.name(), text, timeout.toMillis());
+
+            if ("unsupported".equals(result)) {
+                logger.debug("MutationObserver not supported, falling back to polling");
+                return null;
+            }
+            if ("detached".equals(result)) {
+                logger.debug("Element detached during observer wait for {}, falling back to polling", condition);
+                return null;
+            }
+            return Boolean.TRUE.equals(result);
+        } catch (WebDriverException e) {
+            logger.debug("Observer wait for {} unavailable, falling back to polling: {}", condition, e.getMessage());
+            return null;
+        }
+    }
+
+    // --- Helper Methods ---
+
+    /**
+     * Raises the session's script timeout to at least {@code required}; remembered per driver so it's set once.
+     */
+    static void ensureScriptTimeout(WebDriver driver, Duration required) {
+        Duration current = scriptTimeouts.get(driver);
+        if (current != null && current.compareTo(required) >= 0) {
+            return;
+        }
+        driver.manage().timeouts().scriptTimeout(required);
+        scriptTimeouts.put(driver, required);
+    }
+}
@@ -0,0 +1,177 @@
+package com.medsky.automation.utils;
+
+import com.medsky.automation.config.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects when the page has settled: document loaded, no fetch/XHR (or jQuery) request in flight for a quiet
+ * period, and a frame painted after the last response. The whole wait runs browser-side in one async script call.
+ * <p>
+ * With {@code networkIdle.preloadTracker} on, the fetch/XHR tracker is registered on new sessions to run at
+ * document start (CDP {@code Page.addScriptToEvaluateOnNewDocument}), so it counts every request the page makes,
+ * including those already in flight when the wait starts. Otherwise, or on browsers without CDP, the wait injects
+ * the tracker itself and only sees earlier requests once they have finished.
+ */
+public final class NetworkIdleWait {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkIdleWait.class);
+
+    // Idempotent, so it can run both at document start and again from the wait itself
+    private static final String TRACKER_SCRIPT =
+            "(function() {" +
+            "  if (window.__networkIdleTracker) return;" +
+            "  var tracker = window.__networkIdleTracker = { inFlight: 0, lastActivity: Date.now(), lastResourceEnd: 0 };" +
+            "  var begin = function() { tracker.inFlight++; tracker.lastActivity = Date.now(); };" +
+            "  var end = function() { tracker.inFlight = Math.max(0, tracker.inFlight - 1); tracker.lastActivity = Date.now(); };" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function() {" +
+            "      begin();" +
+            "      return originalFetch.apply(this, arguments).then(" +
+            "          function(response) { end(); return response; }, function(error) { end(); throw error; });" +
+            "    };" +
+            "  }" +
+            // Sees every resource, unlike getEntriesByType which stops once the 250-entry timing buffer is full
+            "  if (window.PerformanceObserver && window.performance) {" +
+            "    try {" +
+            "      new PerformanceObserver(function(list) {" +
+            "        list.getEntries().forEach(function(entry) {" +
+            "          tracker.lastResourceEnd = Math.max(tracker.lastResourceEnd, performance.timeOrigin + entry.responseEnd);" +
+            "        });" +
+            "      }).observe({ type: 'resource', buffered: true });" +
+            "      tracker.observingResources = true;" +
+            "    } catch (e) {}" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function() {" +
+            "    begin();" +
+            "    this.addEventListener('loadend', end);" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "})();";
+    private static final String AWAIT_IDLE_SCRIPT =
+            "var quietMs = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];" +
+            TRACKER_SCRIPT +
+            "var tracker = window.__networkIdleTracker;" +
+            "function lastResourceEnd() {" +
+            // Without the preloaded tracker, requests started before the wait only show up here once they finish
+            "  if (tracker.observingResources) return tracker.lastResourceEnd;" +
+            // Entries are ordered by start time, so the latest end can be anywhere in the list
+            "  var entries = window.performance && performance.getEntriesByType ? performance.getEntriesByType('resource') : [];" +
+            "  var latest = 0;" +
+            "  for (var i = 0; i < entries.length; i++) latest = Math.max(latest, performance.timeOrigin + entries[i].responseEnd);" +
+            "  return latest;" +
+            "}" +
+            "var started = Date.now(), finished = false;" +
+            "function finish(result) { if (!finished) { finished = true; done(result); } }" +
+            "(function check() {" +
+            "  var now = Date.now();" +
+            "  var busy = document.readyState !== 'complete' || tracker.inFlight > 0 ||" +
+            "      (window.jQuery && window.jQuery.active > 0);" +
+            "  tracker.lastActivity = Math.max(tracker.lastActivity, lastResourceEnd(), busy ? now : 0);" +
+            "  if (!busy && now - tracker.lastActivity >= quietMs) {" +
+            // Let the last responses render; the timer covers browsers that throttle animation frames
+            "    if (window.requestAnimationFrame) requestAnimationFrame(function() { finish(true); });" +
+            "    setTimeout(function() { finish(true); }, 100);" +
+            "  } else if (now - started >= timeoutMs) {" +
+            "    finish(false);" +
+            "  } else {" +
+            "    setTimeout(check, 50);" +
+            "  }" +
+            "})();";
+
+    private static final AtomicLong waits = new AtomicLong();
+    private static final AtomicLong timeouts = new AtomicLong();
+    private static final AtomicLong waitedMillis = new AtomicLong();
+    private static final AtomicLong savedMillis = new AtomicLong();
+    private static final AtomicLong overBaseline = new AtomicLong();
+
+    private NetworkIdleWait() {}
+
+    /**
+     * Registers the request tracker to run at the start of every document the session loads. Browsers without
+     * CDP are left untouched and fall back to injecting the tracker when a wait runs.
+     */
+    public static void install(WebDriver driver) {
+        try {
+            WebDriver cdpDriver = driver instanceof HasCdp ? driver : new Augmenter().augment(driver);
+            if (!(cdpDriver instanceof HasCdp)) {
+                logger.debug("Network tracker preload needs CDP, not available for: {}", driver.getClass().getSimpleName());
+                return;
+            }
+            ((HasCdp) cdpDriver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", TRACKER_SCRIPT));
+            logger.debug("Network tracker registered to run at document start");
+        } catch (Exception e) {
+            logger.warn("Unable to preload network tracker, waits will inject it on demand: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return {@code true} once the page has been idle for {@code quietPeriod}, {@code false} if it was still busy
+     * when the timeout ran out
+     */
+    public static boolean await(WebDriver driver, Duration quietPeriod, Duration timeout) {
+        long start = System.nanoTime();
+        boolean idle;
+        try {
+            MutationObserverWait.ensureScriptTimeout(driver, timeout.plus(MutationObserverWait.SCRIPT_TIMEOUT_MARGIN));
+            idle = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(AWAIT_IDLE_SCRIPT,
+                    quietPeriod.toMillis(), timeout.toMillis()));
+        } catch (WebDriverException e) {
+            logger.debug("Network tracker unavailable, waiting for document ready state only: {}", e.getMessage());
+            idle = awaitReadyState(driver, timeout);
+        }
+        record(idle, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return idle;
+    }
+
+    public static void logStats() {
+        if (waits.get() == 0) {
+            return;
+        }
+        logger.info("Network idle waits - waits: {}, timeouts: {}, avg wait: {} ms, saved vs fixed {} ms wait: {} s, " +
+                        "waits longer than the fixed wait: {}",
+                waits.get(), timeouts.get(), waitedMillis.get() / waits.get(), ConfigReader.getNetworkIdleBaselineMillis(),
+                TimeUnit.MILLISECONDS.toSeconds(savedMillis.get()), overBaseline.get());
+    }
+
+    // --- Helper Methods ---
+
+    private static boolean awaitReadyState(WebDriver driver, Duration timeout) {
+        try {
+            return new WebDriverWait(driver, timeout).until(webDriver ->
+                    "complete".equals(((JavascriptExecutor) webDriver).executeScript("return document.readyState")));
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private static void record(boolean idle, long elapsedMillis) {
+        waits.incrementAndGet();
+        waitedMillis.addAndGet(elapsedMillis);
+        if (!idle) {
+            timeouts.incrementAndGet();
+            return;
+        }
+
+        // A fixed wait either sleeps past the point the page settled or, when shorter, risks acting too early
+        long baselineMillis = ConfigReader.getNetworkIdleBaselineMillis();
+        if (elapsedMillis <= baselineMillis) {
+            savedMillis.addAndGet(baselineMillis - elapsedMillis);
+        } else {
+            overBaseline.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.medsky.automation.utils;
+
+import com.medsky.automation.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed screenshot storage: each capture is keyed by the SHA-256 of its PNG bytes and stored once
+ * as {@code <hash>.<format>}, re-encoded to {@code screenshot.format} and optionally scaled down to
+ * {@code screenshot.maxWidth}. Retries that fail on the same screen reuse the stored image.
+ */
+public final class ScreenshotArtifacts {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotArtifacts.class);
+
+    private static final Set<String> claimedFiles = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong stored = new AtomicLong();
+    private static final AtomicLong duplicates = new AtomicLong();
+    private static final AtomicLong capturedBytes = new AtomicLong();
+    private static final AtomicLong storedBytes = new AtomicLong();
+    private static final AtomicLong encodeNanos = new AtomicLong();
+    private static final AtomicLong maxEncodeNanos = new AtomicLong();
+
+    private ScreenshotArtifacts() {}
+
+    public static String contentKey(byte[] png) {
+        try {
+            StringBuilder key = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(png)) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static String getExtension() {
+        return isJpeg() ? "jpg" : "png";
+    }
+
+    /**
+     * Reserves the content-addressed file for a capture. {@code false} means the image is already stored (or being stored), by this
+     * run or an earlier one, and the caller should just reference it.
+     */
+    public static boolean claim(File file, int capturedLength) {
+        capturedBytes.addAndGet(capturedLength);
+        if (!claimedFiles.add(file.getAbsolutePath()) || file.isFile()) {
+            duplicates.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gives up a claim whose write failed, so the next capture of the same screen stores it again.
+     */
+    public static void release(File file) {
+        claimedFiles.remove(file.getAbsolutePath());
+    }
+
+    public static byte[] encode(byte[] png) throws IOException {
+        long start = System.nanoTime();
+        if (!isJpeg() && ConfigReader.getScreenshotMaxWidth() <= 0) {
+            // Re-encoding a browser PNG as PNG at the same size gains nothing
+            record(png.length, System.nanoTime() - start);
+            return png;
+        }
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+
+        BufferedImage output = scale(image, ConfigReader.getScreenshotMaxWidth(), isJpeg());
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(png.length / 2);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(isJpeg() ? "jpeg" : "png").next();
+        try (ImageOutputStream outputStream = ImageIO.createImageOutputStream(encoded)) {
+            writer.setOutput(outputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (isJpeg()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(ConfigReader.getScreenshotQuality());
+            }
+            writer.write(null, new IIOImage(output, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        record(encoded.size(), System.nanoTime() - start);
+        return encoded.toByteArray();
+    }
+
+    /**
+     * Scales the capture down to {@code width} pixels wide and encodes it as JPEG; not counted in the stats.
+     */
+    public static byte[] thumbnail(byte[] png, int width) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(scale(image, width, true), "jpeg", encoded);
+        return encoded.toByteArray();
+    }
+
+    public static void logStats() {
+        if (stored.get() + duplicates.get() == 0) {
+            return;
+        }
+        logger.info("Screenshot artifacts - stored: {}, duplicates skipped: {}, captured: {} KB, written: {} KB, " +
+                        "avg encode: {} ms, max encode: {} ms",
+                stored.get(), duplicates.get(), capturedBytes.get() / 1024, storedBytes.get() / 1024,
+                stored.get() == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(encodeNanos.get() / stored.get()),
+                TimeUnit.NANOSECONDS.toMillis(maxEncodeNanos.get()));
+    }
+
+    // --- Helper Methods ---
+
+    private static void record(int storedLength, long elapsedNanos) {
+        encodeNanos.addAndGet(elapsedNanos);
+        maxEncodeNanos.accumulateAndGet(elapsedNanos, Math::max);
+        stored.incrementAndGet();
+        storedBytes.addAndGet(storedLength);
+    }
+
+    private static boolean isJpeg() {
+        String format = ConfigReader.getScreenshotFormat().toLowerCase(Locale.ROOT);
+        return format.equals("jpg") || format.equals("jpeg");
+    }
+
+    private static BufferedImage scale(BufferedImage image, int maxWidth, boolean opaque) {
+        boolean downsize = maxWidth > 0 && image.getWidth() > maxWidth;
+        // JPEG has no alpha channel, so transparent captures are flattened onto an RGB canvas
+        if (!downsize && (!opaque || !image.getColorModel().hasAlpha())) {
+            return image;
+        }
+
+        int width = downsize ? maxWidth : image.getWidth();
+        int height = downsize ? Math.max(1, image.getHeight() * maxWidth / image.getWidth()) : image.getHeight();
+        BufferedImage scaled = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+}
@@ -1,66 +1,188 @@
 package com.medsky.automation.utils;
 
+import com.medsky.automation.config.ConfigReader;
 import com.medsky.automation.core.DriverManager;
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Captures each screenshot once as PNG bytes. The report's Base64 string is derived from those bytes and the
+ * disk copy is written on a small bounded I/O pool, so the test thread never waits for the file system.
+ * {@link #flush()} is the barrier that waits for pending writes at suite end. With
+ * {@code screenshot.contentAddressed} on, files go through {@link ScreenshotArtifacts} instead of being
+ * stored as-is under a timestamped name.
+ */
 public class ScreenshotUtils {
     private static final Logger logger = LoggerFactory.getLogger(ScreenshotUtils.class);
     private static final String SCREENSHOT_DIR = "screenshots";
     private static final String EXTENT_REPORT_DIR = "reports";
+    private static final String CONTENT_DIR = "content";
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss-SSS");
 
+    private static final Set<CompletableFuture<Void>> pendingWrites = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong captures = new AtomicLong();
+    private static final AtomicLong filesWritten = new AtomicLong();
+    private static final AtomicLong failedWrites = new AtomicLong();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static volatile ExecutorService writerPool;
+
     private ScreenshotUtils() {
     }
 
     public static String takeScreenshotForExtentReport(String testName) {
-        File screenshotDir = new File(SCREENSHOT_DIR);
-        FileHelper.createDirectories(SCREENSHOT_DIR);
+        byte[] png = capture();
+        store(new File(SCREENSHOT_DIR), testName, png);
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(png);
+    }
 
-        String currentTime = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String fileName = testName + "_" + currentTime + ".png";
-        File destinationFile = new File(screenshotDir, fileName);
+    /**
+     * @return the path the screenshot is being written to; the file is complete once {@link #flush()} returns
+     */
+    public static String takeScreenshot(String testName) {
+        if (!FileHelper.createDirectories(SCREENSHOT_DIR)) {
+            return null;
+        }
+        return store(new File(SCREENSHOT_DIR), testName, capture()).getPath();
+    }
 
-        // 1. Capture as FILE (for physical record)
-        File sourceFile = ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.FILE);
+    /**
+     * Captures into {@code mediaDirectory} for reports that link to files instead of embedding them; no Base64
+     * copy is made. With {@code thumbnailWidth > 0} a JPEG thumbnail is written next to the image, at
+     * {@link #getThumbnailFile(File)}.
+     */
+    public static File takeScreenshotAsMedia(String testName, File mediaDirectory, int thumbnailWidth) {
+        byte[] png = capture();
+        File screenshotFile = store(mediaDirectory, testName, png);
+        File thumbnailFile = getThumbnailFile(screenshotFile);
+        if (thumbnailWidth > 0 && !thumbnailFile.exists()) {
+            writeAsync(thumbnailFile, () -> ScreenshotArtifacts.thumbnail(png, thumbnailWidth));
+        }
+        return screenshotFile;
+    }
+
+    public static File getThumbnailFile(File screenshotFile) {
+        String name = screenshotFile.getName();
+        int extension = name.lastIndexOf('.');
+        return new File(screenshotFile.getParentFile(), (extension < 0 ? name : name.substring(0, extension)) + "_thumb.jpg");
+    }
+
+    /**
+     * Waits up to {@code screenshot.flushTimeoutSeconds} for every queued screenshot to reach the disk.
+     */
+    public static void flush() {
+        if (captures.get() == 0) {
+            return;
+        }
+
+        CompletableFuture<?>[] writes = pendingWrites.toArray(new CompletableFuture<?>[0]);
         try {
-            FileUtils.copyFile(sourceFile, destinationFile);
-            logger.info("Physical screenshot saved: " + destinationFile.getAbsolutePath());
-        } catch (IOException e) {
-            logger.error("Failed to save physical file", e);
+            CompletableFuture.allOf(writes).get(ConfigReader.getScreenshotFlushTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("{} screenshot writes still pending after flush timeout", pendingWrites.size());
+        } catch (ExecutionException e) {
+            // Individual failures are logged by the write itself
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
 
-        // 2. Capture as BASE64 (for the dynamic report)
-        String base64String = ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.BASE64);
-        return "data:image/png;base64," + base64String;
+        logger.info("Screenshots - captured: {}, written: {}, failed writes: {}, bytes written: {}",
+                captures.get(), filesWritten.get(), failedWrites.get(), bytesWritten.get());
+        ScreenshotArtifacts.logStats();
     }
 
-    public static String takeScreenshot(String testName) {
-        File screenshotDir = new File(SCREENSHOT_DIR);
-        boolean directoryExists = FileHelper.createDirectories(SCREENSHOT_DIR);
-        if(directoryExists) {
+    // --- Helper Methods ---
+
+    private static byte[] capture() {
+        captures.incrementAndGet();
+        return ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.BYTES);
+    }
+
+    private static File store(File directory, String testName, byte[] png) {
+        if (!ConfigReader.isContentAddressedScreenshots()) {
+            FileHelper.createDirectories(directory.getPath());
             String currentTime = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-            String screenshotFileName = testName + "_" + currentTime + ".png";
-            File screenshotFile = new File(screenshotDir, screenshotFileName);
-            File file = ((TakesScreenshot) DriverManager.getDriver()).getScreenshotAs(OutputType.FILE);
-            try {
-                FileUtils.copyFile(file, screenshotFile);
-            } catch (IOException e) {
-                logger.error("Unable to take screenshot", e);
-            }
-            return screenshotFile.getPath();
+            File screenshotFile = new File(directory, testName + "_" + currentTime + ".png");
+            writeAsync(screenshotFile, () -> png);
+            return screenshotFile;
+        }
+
+        File contentDirectory = new File(directory, CONTENT_DIR);
+        FileHelper.createDirectories(contentDirectory.getPath());
+        String key = ScreenshotArtifacts.contentKey(png);
+        File screenshotFile = new File(contentDirectory, key + "." + ScreenshotArtifacts.getExtension());
+        if (ScreenshotArtifacts.claim(screenshotFile, png.length)) {
+            // Re-encoding is the expensive part, so it runs on the writer pool with the write
+            writeAsync(screenshotFile, () -> ScreenshotArtifacts.encode(png)).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    ScreenshotArtifacts.release(screenshotFile);
+                }
+            });
         }
-        return null;
+        logger.info("Screenshot for {}: {}", testName, screenshotFile.getPath());
+        return screenshotFile;
     }
 
+    /**
+     * Writes through a temp file so the destination only ever holds a complete image, even if the JVM dies mid-write.
+     */
+    private static CompletableFuture<Void> writeAsync(File destinationFile, Callable<byte[]> content) {
+        CompletableFuture<Void> write = new CompletableFuture<>();
+        pendingWrites.add(write);
+        write.whenComplete((ignored, error) -> pendingWrites.remove(write));
 
+        getWriterPool().execute(() -> {
+            try {
+                byte[] bytes = content.call();
+                FileHelper.writeAtomically(destinationFile.toPath(), outputStream -> outputStream.write(bytes));
+                filesWritten.incrementAndGet();
+                bytesWritten.addAndGet(bytes.length);
+                logger.info("Physical screenshot saved: {}", destinationFile.getAbsolutePath());
+                write.complete(null);
+            } catch (Exception e) {
+                failedWrites.incrementAndGet();
+                logger.error("Failed to save physical file", e);
+                write.completeExceptionally(e);
+            }
+        });
+        return write;
+    }
 
+    private static ExecutorService getWriterPool() {
+        if (writerPool == null) {
+            synchronized (ScreenshotUtils.class) {
+                if (writerPool == null) {
+                    int threads = ConfigReader.getScreenshotWriterThreads();
+                    AtomicInteger threadCount = new AtomicInteger();
+                    // A full queue makes the capturing thread write the file itself rather than buffer unbounded bytes
+                    writerPool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(ConfigReader.getScreenshotQueueCapacity()), runnable -> {
+                                Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    ((ThreadPoolExecutor) writerPool).allowCoreThreadTimeOut(true);
+                }
+            }
+        }
+        return writerPool;
+    }
 }
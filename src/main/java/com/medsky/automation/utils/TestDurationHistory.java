@@ -0,0 +1,118 @@
+package com.medsky.automation.utils;
+
+import com.medsky.automation.config.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration of each test (keyed by {@link TestUtils#getTestIdentifier}) from earlier runs, kept as a moving
+ * average in {@code testOrdering.historyFile}.
+ */
+public final class TestDurationHistory {
+    private static final Logger logger = LoggerFactory.getLogger(TestDurationHistory.class);
+
+    // Weight of the latest run; the rest carries over from history so one slow run doesn't reorder everything
+    private static final double LATEST_WEIGHT = 0.5;
+
+    private static final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    private TestDurationHistory() {}
+
+    public static void record(String testIdentifier, long millis) {
+        loadHistory();
+        durations.merge(testIdentifier, millis,
+                (previous, latest) -> Math.round(previous * (1 - LATEST_WEIGHT) + latest * LATEST_WEIGHT));
+    }
+
+    /**
+     * Expected duration of a test method: its recorded duration, summed over every data-provider row on record,
+     * or {@code null} when the method has never run.
+     */
+    public static Long predict(String methodIdentifier) {
+        loadHistory();
+        Long exact = durations.get(methodIdentifier);
+        if (exact != null) {
+            return exact;
+        }
+
+        // Parameters follow as "_[...]"; a bare "_" would also match methods such as login_locked
+        String rowPrefix = methodIdentifier + "_[";
+        long total = 0;
+        boolean found = false;
+        for (Map.Entry<String, Long> entry : durations.entrySet()) {
+            if (entry.getKey().startsWith(rowPrefix)) {
+                total += entry.getValue();
+                found = true;
+            }
+        }
+        return found ? total : null;
+    }
+
+    /**
+     * Duration assumed for tests with no history: the median of known tests, or
+     * {@code testOrdering.defaultMillis} on a first run.
+     */
+    public static long getDefaultPrediction() {
+        loadHistory();
+        long[] known = durations.values().stream().mapToLong(Long::longValue).toArray();
+        if (known.length == 0) {
+            return ConfigReader.getTestOrderingDefaultMillis();
+        }
+        Arrays.sort(known);
+        return known[known.length / 2];
+    }
+
+    public static synchronized void save() {
+        if (!loaded || durations.isEmpty()) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        durations.forEach((key, millis) -> properties.setProperty(key, String.valueOf(millis)));
+
+        File historyFile = new File(ConfigReader.getTestOrderingHistoryFile());
+        try {
+            // A crash mid-write would otherwise leave a truncated history that later runs order by
+            FileHelper.writeAtomically(historyFile.toPath(),
+                    outputStream -> properties.store(outputStream, "Test duration in milliseconds per test identifier"));
+        } catch (IOException e) {
+            logger.warn("Unable to write test duration history: {}", historyFile, e);
+        }
+    }
+
+    // --- Helper Methods ---
+
+    private static void loadHistory() {
+        if (loaded) {
+            return;
+        }
+        synchronized (TestDurationHistory.class) {
+            if (loaded) {
+                return;
+            }
+            File historyFile = new File(ConfigReader.getTestOrderingHistoryFile());
+            if (historyFile.isFile()) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = Files.newInputStream(historyFile.toPath())) {
+                    properties.load(inputStream);
+                    properties.stringPropertyNames().forEach(key ->
+                            durations.put(key, Long.parseLong(properties.getProperty(key).trim())));
+                    logger.debug("Loaded durations for {} tests from: {}", durations.size(), historyFile);
+                } catch (IOException | NumberFormatException e) {
+                    logger.warn("Unable to read test duration history, starting fresh: {}", historyFile, e);
+                }
+            }
+            loaded = true;
+        }
+    }
+}
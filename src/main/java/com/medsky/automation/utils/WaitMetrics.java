@@ -0,0 +1,50 @@
+package com.medsky.automation.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency and remote command counts of explicit waits, per wait engine and condition.
+ */
+public final class WaitMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(WaitMetrics.class);
+
+    private static final Map<String, WaitStats> stats = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {}
+
+    public static void record(String engine, String condition, long startNanos, long commands) {
+        WaitStats waitStats = stats.computeIfAbsent(engine + " " + condition, k -> new WaitStats());
+        waitStats.waits.incrementAndGet();
+        waitStats.nanos.addAndGet(System.nanoTime() - startNanos);
+        waitStats.commands.addAndGet(commands);
+    }
+
+    public static void logStats() {
+        if (stats.isEmpty()) {
+            return;
+        }
+
+        StringBuilder table = new StringBuilder(String.format("%n%-28s %8s %12s %12s %14s",
+                "engine condition", "waits", "avg ms", "commands", "commands/wait"));
+        new TreeMap<>(stats).forEach((key, waitStats) -> {
+            long waits = waitStats.waits.get();
+            table.append(String.format("%n%-28s %8d %12.1f %12d %14.1f", key, waits,
+                    TimeUnit.NANOSECONDS.toMicros(waitStats.nanos.get()) / 1000.0 / waits,
+                    waitStats.commands.get(), (double) waitStats.commands.get() / waits));
+        });
+        logger.info("Explicit wait stats (polling commands are estimated per condition evaluation):{}", table);
+    }
+
+    private static final class WaitStats {
+        private final AtomicLong waits = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong commands = new AtomicLong();
+    }
+}
@@ -1,18 +1,29 @@
 package com.medsky.automation.utils;
 
 import com.medsky.automation.config.ConfigReader;
+import com.medsky.automation.utils.MutationObserverWait.Condition;
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WaitUtils {
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration RACE_POLL_INTERVAL = Duration.ofMillis(200);
     private final WebDriver driver;
     private final WebDriverWait wait;
     private final int defaultTimeout;
@@ -26,7 +37,7 @@ public class WaitUtils {
     public WebElement waitForElementToBeVisible(WebElement element) {
         try {
             logger.debug("Waiting for element to be visible");
-            return wait.until(ExpectedConditions.visibilityOf(element));
+            return until(Condition.VISIBLE, element, null, null, defaultTimeout, false, ExpectedConditions.visibilityOf(element), element);
         } catch (Exception e) {
             logger.error("Element not visible within {} seconds", defaultTimeout, e);
             throw e;
@@ -36,18 +47,73 @@ public class WaitUtils {
     public WebElement waitForElementToBeVisible(WebElement element, int timeoutSeconds) {
         try {
             logger.debug("Waiting for element to be visible with timeout: {} seconds", timeoutSeconds);
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            return customWait.until(ExpectedConditions.visibilityOf(element));
+            return until(Condition.VISIBLE, element, null, null, timeoutSeconds, false, ExpectedConditions.visibilityOf(element), element);
         } catch (Exception e) {
             logger.error("Element not visible within {} seconds", timeoutSeconds, e);
             throw e;
         }
     }
 
+    /**
+     * Wait for element to be visible, polling on the schedule learned for {@code waitKey} when adaptive waits are on
+     */
+    public WebElement waitForElementToBeVisible(WebElement element, String waitKey) {
+        try {
+            logger.debug("Waiting for element to be visible: {}", waitKey);
+            return until(Condition.VISIBLE, element, null, waitKey, defaultTimeout, false, ExpectedConditions.visibilityOf(element), element);
+        } catch (Exception e) {
+            logger.debug("Element {} not visible in time", waitKey);
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for the first element matching the locator to be visible, for content that isn't rendered yet
+     */
+    public WebElement waitForElementToBeVisible(By locator) {
+        try {
+            logger.debug("Waiting for element to be visible: {}", locator);
+            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        } catch (Exception e) {
+            logger.error("Element {} not visible within {} seconds", locator, defaultTimeout, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Whether the element becomes visible within the configured timeout, polling on the schedule learned for
+     * {@code waitKey} when adaptive waits are on.
+     */
+    public boolean isElementVisible(WebElement element, String waitKey) {
+        try {
+            logger.debug("Checking whether element is visible: {}", waitKey);
+            return until(Condition.VISIBLE, element, null, waitKey, defaultTimeout, false,
+                    ExpectedConditions.visibilityOf(element), element).isDisplayed();
+        } catch (Exception e) {
+            logger.debug("Element {} not visible", waitKey);
+            return false;
+        }
+    }
+
+    /**
+     * Presence probe: like {@link #isElementVisible(WebElement, String)}, but gives up early on the timeout learned
+     * for {@code waitKey} when adaptive waits are on. Use only where the element is expected to be absent.
+     */
+    public boolean probeElementVisible(WebElement element, String waitKey) {
+        try {
+            logger.debug("Probing whether element is visible: {}", waitKey);
+            return until(Condition.VISIBLE, element, null, waitKey, defaultTimeout, true,
+                    ExpectedConditions.visibilityOf(element), element).isDisplayed();
+        } catch (Exception e) {
+            logger.debug("Element {} not visible", waitKey);
+            return false;
+        }
+    }
+
     public WebElement waitForElementToBeClickable(WebElement element) {
         try {
             logger.debug("Waiting for element to be clickable");
-            return wait.until(ExpectedConditions.elementToBeClickable(element));
+            return until(Condition.CLICKABLE, element, null, null, defaultTimeout, false, ExpectedConditions.elementToBeClickable(element), element);
         } catch (Exception e) {
             logger.error("Element not clickable within {} seconds", defaultTimeout, e);
             throw e;
@@ -60,18 +126,31 @@ public class WaitUtils {
     public WebElement waitForElementToBeClickable(WebElement element, int timeoutSeconds) {
         try {
             logger.debug("Waiting for element to be clickable with timeout: {} seconds", timeoutSeconds);
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            return customWait.until(ExpectedConditions.elementToBeClickable(element));
+            return until(Condition.CLICKABLE, element, null, null, timeoutSeconds, false, ExpectedConditions.elementToBeClickable(element), element);
         } catch (Exception e) {
             logger.error("Element not clickable within {} seconds", timeoutSeconds, e);
             throw e;
         }
     }
 
+    /**
+     * Wait for element to be clickable, polling on the schedule learned for {@code waitKey} when adaptive waits are on
+     */
+    public WebElement waitForElementToBeClickable(WebElement element, String waitKey) {
+        try {
+            logger.debug("Waiting for element to be clickable: {}", waitKey);
+            return until(Condition.CLICKABLE, element, null, waitKey, defaultTimeout, false, ExpectedConditions.elementToBeClickable(element), element);
+        } catch (Exception e) {
+            logger.error("Element {} not clickable in time", waitKey, e);
+            throw e;
+        }
+    }
+
     public boolean waitForTextToBePresentInElement(WebElement element, String text) {
         try {
             logger.debug("Waiting for text '{}' to be present in element", text);
-            return wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+            return until(Condition.TEXT_PRESENT, element, text, null, defaultTimeout, false,
+                    ExpectedConditions.textToBePresentInElement(element, text), true);
         } catch (Exception e) {
             logger.error("Text '{}' not present in element within {} seconds", text, defaultTimeout, e);
             return false;
@@ -81,13 +160,49 @@ public class WaitUtils {
     public boolean waitForElementToBeInvisible(WebElement element) {
         try {
             logger.debug("Waiting for element to become invisible");
-            return wait.until(ExpectedConditions.invisibilityOf(element));
+            return until(Condition.INVISIBLE, element, null, null, defaultTimeout, false, ExpectedConditions.invisibilityOf(element), true);
         } catch (Exception e) {
             logger.error("Element still visible after {} seconds", defaultTimeout, e);
             return false;
         }
     }
 
+    /**
+     * Waits for whichever condition holds first and returns its index, or -1 if none holds within the default timeout.
+     */
+    public int waitForFirst(ExpectedCondition<?>... conditions) {
+        return waitForFirst(defaultTimeout, conditions);
+    }
+
+    /**
+     * Waits for whichever condition holds first, checking all of them on every poll, and returns its index,
+     * or -1 if none holds within the timeout.
+     */
+    public int waitForFirst(int timeoutSeconds, ExpectedCondition<?>... conditions) {
+        logger.debug("Waiting for the first of {} conditions with timeout: {} seconds", conditions.length, timeoutSeconds);
+        long start = System.nanoTime();
+        AtomicInteger polls = new AtomicInteger();
+        AtomicInteger winner = new AtomicInteger(-1);
+        try {
+            new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds), RACE_POLL_INTERVAL).until(webDriver -> {
+                polls.incrementAndGet();
+                for (int i = 0; i < conditions.length; i++) {
+                    if (isMet(conditions[i], webDriver)) {
+                        winner.set(i);
+                        return true;
+                    }
+                }
+                return false;
+            });
+            logger.debug("Condition {} of {} met first", winner.get(), conditions.length);
+        } catch (TimeoutException e) {
+            logger.error("None of {} conditions met within {} seconds", conditions.length, timeoutSeconds);
+        } finally {
+            WaitMetrics.record("polling", "FIRST_OF_" + conditions.length, start, (long) polls.get() * conditions.length);
+        }
+        return winner.get();
+    }
+
     public void sleep(int seconds) {
         try {
             logger.debug("Sleeping for {} seconds", seconds);
@@ -98,6 +213,22 @@ public class WaitUtils {
         }
     }
 
+    /**
+     * Waits for the page to settle: document loaded and no fetch/XHR request in flight for {@code quietPeriod}.
+     */
+    public boolean waitForNetworkIdle(Duration quietPeriod) {
+        logger.debug("Waiting for network idle with quiet period: {} ms", quietPeriod.toMillis());
+        boolean idle = NetworkIdleWait.await(driver, quietPeriod, Duration.ofSeconds(defaultTimeout));
+        if (!idle) {
+            logger.warn("Network still busy after {} seconds", defaultTimeout);
+        }
+        return idle;
+    }
+
+    public boolean waitForNetworkIdle() {
+        return waitForNetworkIdle(Duration.ofMillis(ConfigReader.getNetworkIdleQuietMillis()));
+    }
+
     public void waitForJavaScriptToComplete() {
         try {
             logger.debug("Waiting for JavaScript to complete");
@@ -109,4 +240,72 @@ public class WaitUtils {
             logger.debug("jQuery not available or JavaScript wait failed", e);
         }
     }
+
+    // --- Helper Methods ---
+
+    /**
+     * Runs the wait on the MutationObserver engine when enabled, otherwise (or when the browser can't run it)
+     * polls the equivalent {@link ExpectedCondition}. Waits with a key poll on the schedule learned for it; only
+     * probes (where absence is an answer) also use the learned timeout.
+     */
+    private <T> T until(Condition condition, WebElement element, String text, String waitKey, int timeoutSeconds,
+                        boolean probe, ExpectedCondition<T> pollingCondition, T observedResult) {
+        String historyKey = waitKey == null ? null : waitKey + "." + condition.name().toLowerCase();
+        Duration timeout = probe ? AdaptiveWaits.probeTimeoutFor(historyKey, timeoutSeconds) : Duration.ofSeconds(timeoutSeconds);
+        long start = System.nanoTime();
+
+        if (ConfigReader.isObserverWaitEnabled()) {
+            Boolean met = MutationObserverWait.await(driver, element, condition, text, timeout);
+            if (met != null) {
+                WaitMetrics.record("observer", condition.name(), start, 1);
+                if (met) {
+                    AdaptiveWaits.recordReady(historyKey, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    return observedResult;
+                }
+                recordTimeout(historyKey, probe, timeout, timeoutSeconds);
+                throw new TimeoutException(String.format("Condition %s not met within %d ms", condition, timeout.toMillis()));
+            }
+        }
+
+        AtomicInteger polls = new AtomicInteger();
+        try {
+            T result = getPollingWait(historyKey, timeout, timeoutSeconds).until(webDriver -> {
+                polls.incrementAndGet();
+                return pollingCondition.apply(webDriver);
+            });
+            AdaptiveWaits.recordReady(historyKey, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+        } catch (TimeoutException e) {
+            recordTimeout(historyKey, probe, timeout, timeoutSeconds);
+            throw e;
+        } finally {
+            WaitMetrics.record("polling", condition.name(), start, (long) polls.get() * condition.getCommandsPerPoll());
+        }
+    }
+
+    private static void recordTimeout(String historyKey, boolean probe, Duration timeout, int timeoutSeconds) {
+        if (probe) {
+            AdaptiveWaits.recordAbsent(historyKey, timeout, timeoutSeconds);
+        } else {
+            AdaptiveWaits.recordTimeout(historyKey, timeoutSeconds);
+        }
+    }
+
+    private static boolean isMet(ExpectedCondition<?> condition, WebDriver webDriver) {
+        try {
+            Object result = condition.apply(webDriver);
+            return result != null && !Boolean.FALSE.equals(result);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            // Absent or re-rendering elements only mean this condition isn't met yet
+            return false;
+        }
+    }
+
+    private WebDriverWait getPollingWait(String historyKey, Duration timeout, int timeoutSeconds) {
+        if (historyKey != null && ConfigReader.isAdaptiveWaitEnabled()) {
+            return new WebDriverWait(driver, timeout, DEFAULT_POLL_INTERVAL, Clock.systemDefaultZone(),
+                    AdaptiveWaits.backoffSleeper(historyKey));
+        }
+        return timeoutSeconds == defaultTimeout ? wait : new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+    }
 }
@@ -0,0 +1,77 @@
+package com.medsky.automation.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+/**
+ * Measures the time and allocation of wiring a {@link LoginPage} plus a {@link HomePage} on a stub driver, for
+ * {@code PageFactory.initElements}, the generated {@link PageWirer}s and the reflective fallback. Not part of the
+ * suite; run with:
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.mainClass=com.medsky.automation.pages.PageWiringBenchmark \
+ *     -Dexec.classpathScope=test
+ * </pre>
+ */
+public final class PageWiringBenchmark {
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private PageWiringBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        WebDriver driver = stubDriver();
+        LoginPage loginPage = new LoginPage(driver);
+        HomePage homePage = new HomePage(driver);
+
+        run("PageFactory.initElements", page -> PageFactory.initElements(driver, page), loginPage, homePage);
+        run("Generated PageWirer", page -> PageWiring.wire(page, driver, false), loginPage, homePage);
+        run("Reflective fallback", page -> PageWiring.wireReflectively(page, new PageElements(driver, false)),
+                loginPage, homePage);
+    }
+
+    // --- Helper Methods ---
+
+    private static void run(String name, Consumer<BasePage> wiring, BasePage... pages) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            wireAll(wiring, pages);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            wireAll(wiring, pages);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("%-26s %8.2f us %10d bytes per LoginPage + HomePage%n", name,
+                elapsed / 1_000.0 / MEASURED_ITERATIONS, bytes / MEASURED_ITERATIONS);
+    }
+
+    private static void wireAll(Consumer<BasePage> wiring, BasePage[] pages) {
+        for (BasePage page : pages) {
+            wiring.accept(page);
+        }
+    }
+
+    // Wiring never calls the driver, so every method just returns null
+    private static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(PageWiringBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("equals") ? proxy == args[0]
+                                : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "StubDriver";
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,46 @@
+package com.medsky.automation.reporters;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.nio.file.Files;
+
+public class ReportShardMergerTest {
+
+    @Test
+    public void mergesShardsIntoJUnitSummary() throws Exception {
+        File shardsRoot = new File(getClass().getResource("/report-shards").toURI());
+        File outputDirectory = Files.createTempDirectory("merged-report").toFile();
+
+        Assert.assertEquals(ReportShardMerger.merge(shardsRoot, outputDirectory), 2);
+
+        Document junit = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new File(outputDirectory, "TEST-merged-shards.xml"));
+        NodeList suites = junit.getElementsByTagName("testsuite");
+        Assert.assertEquals(suites.getLength(), 2);
+        assertCounts((Element) suites.item(0), "shard-1", 2, 1, 0);
+        assertCounts((Element) suites.item(1), "shard-2", 2, 0, 1);
+
+        // The parameterized method name contains underscores; it must come from the event, not the test id
+        Element failedCase = (Element) ((Element) suites.item(0)).getElementsByTagName("testcase").item(1);
+        Assert.assertEquals(failedCase.getAttribute("classname"), "com.medsky.automation.tests.login.LoginTests");
+        Assert.assertEquals(failedCase.getAttribute("name"), "invalid_login");
+        Assert.assertEquals(((Element) failedCase.getElementsByTagName("failure").item(0)).getAttribute("message"),
+                "java.lang.AssertionError: expected [true] but found [false]");
+    }
+
+    // --- Helper Methods ---
+
+    private static void assertCounts(Element suite, String name, int tests, int failures, int skipped) {
+        Assert.assertEquals(suite.getAttribute("name"), name);
+        Assert.assertEquals(suite.getAttribute("tests"), String.valueOf(tests), name + " tests");
+        Assert.assertEquals(suite.getAttribute("failures"), String.valueOf(failures), name + " failures");
+        Assert.assertEquals(suite.getAttribute("skipped"), String.valueOf(skipped), name + " skipped");
+        Assert.assertEquals(suite.getElementsByTagName("testcase").getLength(), tests, name + " test cases");
+    }
+}
@@ -1,35 +1,74 @@
 package com.medsky.automation.tests;
 
 import com.medsky.automation.config.ConfigReader;
-import com.medsky.automation.core.DriverFactory;
 import com.medsky.automation.core.DriverManager;
+import com.medsky.automation.core.SessionWarmer;
+import com.medsky.automation.managers.AuthStateManager;
+import com.medsky.automation.pages.CachingFieldDecorator;
+import com.medsky.automation.utils.AdaptiveWaits;
+import com.medsky.automation.utils.NetworkIdleWait;
+import com.medsky.automation.utils.ScreenshotUtils;
+import com.medsky.automation.utils.WaitMetrics;
+import com.medsky.automation.utils.WaitUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
+import org.testng.xml.XmlSuite;
 
 public abstract class BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     protected BaseTest() {}
 
     @BeforeSuite(alwaysRun = true)
-    public void initialize(){
+    public void initialize(ITestContext context){
         logger.info("Running in: {}", ConfigReader.getCurrentEnvironment());
         logger.info("Base URL: {}", ConfigReader.getBaseUrl());
         logger.info("Browser: {}", ConfigReader.getBrowserName());
+
+        if(ConfigReader.isWarmUpEnabled()) {
+            SessionWarmer.warmUp(ConfigReader.getBrowserName(), getWarmUpSessionCount(context));
+        }
     }
 
     @BeforeMethod(alwaysRun = true)
     public void setup(){
         String browserName = ConfigReader.getBrowserName();
         String appUrl = ConfigReader.getBaseUrl();
-        DriverManager.setDriver(DriverFactory.initDriver(browserName));
+        DriverManager.initDriver(browserName);
         DriverManager.getDriver().get(appUrl);
+        if(ConfigReader.isNetworkIdleWaitEnabled()) {
+            new WaitUtils(DriverManager.getDriver()).waitForNetworkIdle();
+        }
     }
 
     @AfterMethod(alwaysRun = true)
     public void teardown(){
         DriverManager.unloadDriver();
     }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdown(){
+        DriverManager.shutdown();
+        AuthStateManager.logStats();
+        CachingFieldDecorator.logStats();
+        WaitMetrics.logStats();
+        AdaptiveWaits.save();
+        AdaptiveWaits.logStats();
+        NetworkIdleWait.logStats();
+        ScreenshotUtils.flush();
+    }
+
+    private int getWarmUpSessionCount(ITestContext context) {
+        int configured = ConfigReader.getWarmUpSessions();
+        if(configured > 0) {
+            return configured;
+        }
+
+        XmlSuite suite = context.getSuite().getXmlSuite();
+        return suite.getParallel() == XmlSuite.ParallelMode.NONE ? 1 : suite.getThreadCount();
+    }
 }
@@ -2,34 +2,44 @@ package com.medsky.automation.tests.dashboard;
 
 import com.medsky.automation.core.DriverManager;
 import com.medsky.automation.enums.UserType;
-import com.medsky.automation.managers.SmartCredentialsManager;
-import com.medsky.automation.models.Credentials;
+import com.medsky.automation.managers.AuthStateManager;
+import com.medsky.automation.models.ProductRow;
 import com.medsky.automation.pages.HomePage;
-import com.medsky.automation.pages.LoginPage;
 import com.medsky.automation.tests.BaseTest;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 public class ProductListingTests extends BaseTest {
 
     @Test
     public void TC_ProductListing_01() {
-        LoginPage loginPage = new LoginPage(DriverManager.getDriver());
-        Credentials creds = SmartCredentialsManager.getCredentials(UserType.STANDARD);
-        HomePage homePage = loginPage.login(creds.getUsername(), creds.getPassword());
+        HomePage homePage = AuthStateManager.loginAs(DriverManager.getDriver(), UserType.STANDARD);
         Assert.assertTrue(homePage.isHamburgerMenuDisplayed(), "Login failed");
         Assert.assertTrue(homePage.isProductListingDisplayed(), "Product listing is not displayed");
     }
 
     @Test
     public void TC_ProductListing_02(){
-        LoginPage loginPage = new LoginPage(DriverManager.getDriver());
-        Credentials creds = SmartCredentialsManager.getCredentials(UserType.STANDARD);
-        HomePage homePage = loginPage.login(creds.getUsername(), creds.getPassword());
+        HomePage homePage = AuthStateManager.loginAs(DriverManager.getDriver(), UserType.STANDARD);
 
         Assert.assertTrue(homePage.isHamburgerMenuDisplayed(), "Login failed");
         Assert.assertTrue(homePage.isProductHeadingDisplayed(1), "Product heading is missing");
         Assert.assertTrue(homePage.isProductPriceDisplayed(1), "Product price is missing");
         Assert.assertTrue(homePage.isAddToCartDisplayed(1), "Add to cart button is missing");
     }
+
+    @Test
+    public void TC_ProductListing_03(){
+        HomePage homePage = AuthStateManager.loginAs(DriverManager.getDriver(), UserType.STANDARD);
+        List<ProductRow> productRows = homePage.getProductRows();
+
+        Assert.assertFalse(productRows.isEmpty(), "No products listed");
+        for (ProductRow productRow : productRows) {
+            Assert.assertTrue(productRow.isNameDisplayed(), "Product heading is missing: " + productRow);
+            Assert.assertTrue(productRow.isPriceDisplayed(), "Product price is missing: " + productRow);
+            Assert.assertTrue(productRow.isAddToCartEnabled(), "Add to cart button is disabled: " + productRow);
+        }
+    }
 }